@@ -0,0 +1,16 @@
+package com.studies.catalog.application.category.bulk;
+
+import com.studies.catalog.domain.category.CategoryChange;
+
+import java.util.List;
+
+public record BulkCategoryOutput(
+        int applied,
+        List<CategoryChange> failed,
+        List<CategoryChange> discarded
+) {
+
+    public static BulkCategoryOutput empty() {
+        return new BulkCategoryOutput(0, List.of(), List.of());
+    }
+}
@@ -0,0 +1,57 @@
+package com.studies.catalog.application.category.bulk;
+
+import com.studies.catalog.application.UseCase;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.category.CategoryGateway;
+import com.studies.catalog.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class BulkCategoryUseCase extends UseCase<List<CategoryChange>, BulkCategoryOutput> {
+
+    private final CategoryGateway categoryGateway;
+
+    public BulkCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public BulkCategoryOutput execute(final List<CategoryChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return BulkCategoryOutput.empty();
+        }
+
+        final var valid = new ArrayList<CategoryChange>(changes.size());
+        final var failed = new ArrayList<CategoryChange>();
+
+        for (final var change : changes) {
+            if (change.id() == null) {
+                continue;
+            }
+
+            if (change.isDelete() || isValid(change)) {
+                valid.add(change);
+            } else {
+                failed.add(change);
+            }
+        }
+
+        if (valid.isEmpty()) {
+            return new BulkCategoryOutput(0, failed, List.of());
+        }
+
+        final var result = this.categoryGateway.bulk(valid);
+        failed.addAll(result.failed());
+
+        final var applied = valid.size() - result.failed().size() - result.discarded().size();
+        return new BulkCategoryOutput(applied, failed, result.discarded());
+    }
+
+    private static boolean isValid(final CategoryChange change) {
+        final var notification = Notification.create();
+        change.category().validate(notification);
+        return !notification.hasError();
+    }
+}
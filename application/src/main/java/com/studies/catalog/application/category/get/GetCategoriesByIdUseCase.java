@@ -0,0 +1,36 @@
+package com.studies.catalog.application.category.get;
+
+import com.studies.catalog.application.UseCase;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryGateway;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class GetCategoriesByIdUseCase extends UseCase<Collection<String>, List<Category>> {
+
+    private final CategoryGateway categoryGateway;
+
+    public GetCategoriesByIdUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Category> execute(final Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        return this.categoryGateway.findAllById(ids);
+    }
+
+    public CompletableFuture<List<Category>> executeAsync(final Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return this.categoryGateway.findAllByIdAsync(ids);
+    }
+}
@@ -6,6 +6,7 @@ import com.studies.catalog.domain.category.CategorySearchQuery;
 import com.studies.catalog.domain.pagination.Pagination;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 public class ListCategoryUseCase extends UseCase<CategorySearchQuery, Pagination<ListCategoryOutput>> {
 
@@ -20,4 +21,9 @@ public class ListCategoryUseCase extends UseCase<CategorySearchQuery, Pagination
         return this.categoryGateway.findAll(aQuery)
                 .map(ListCategoryOutput::from);
     }
+
+    public CompletableFuture<Pagination<ListCategoryOutput>> executeAsync(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAllAsync(aQuery)
+                .thenApply(categories -> categories.map(ListCategoryOutput::from));
+    }
 }
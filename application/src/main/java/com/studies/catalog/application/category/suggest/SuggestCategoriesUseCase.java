@@ -0,0 +1,29 @@
+package com.studies.catalog.application.category.suggest;
+
+import com.studies.catalog.application.UseCase;
+import com.studies.catalog.application.category.list.ListCategoryOutput;
+import com.studies.catalog.domain.category.CategoryGateway;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SuggestCategoriesUseCase extends UseCase<CategorySuggestionQuery, List<ListCategoryOutput>> {
+
+    private final CategoryGateway categoryGateway;
+
+    public SuggestCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<ListCategoryOutput> execute(final CategorySuggestionQuery aQuery) {
+        if (aQuery.isBlank()) {
+            return List.of();
+        }
+
+        return this.categoryGateway.suggest(aQuery).stream()
+                .map(ListCategoryOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,124 @@
+package com.studies.catalog.application.category.bulk;
+
+import com.studies.catalog.application.UseCaseTest;
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryBulkResult;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.category.CategoryGateway;
+import com.studies.catalog.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BulkCategoryUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private BulkCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenValidChanges_whenCallsBulk_shouldApplyAllInOneCall() {
+        // given
+        final var movies = CategoryChange.save(Fixture.Categories.movies());
+        final var trailers = CategoryChange.delete(Fixture.Categories.trailers().id());
+        final var expectedChanges = List.of(movies, trailers);
+        final var expectedApplied = 2;
+
+        when(categoryGateway.bulk(any()))
+                .thenReturn(CategoryBulkResult.empty());
+
+        // when
+        final var currentOutput = this.useCase.execute(expectedChanges);
+
+        // then
+        Assertions.assertEquals(expectedApplied, currentOutput.applied());
+        Assertions.assertTrue(currentOutput.failed().isEmpty());
+
+        verify(categoryGateway, times(1)).bulk(eq(expectedChanges));
+    }
+
+    @Test
+    void givenRejectedChanges_whenCallsBulk_shouldReturnThemAsFailed() {
+        // given
+        final var movies = CategoryChange.save(Fixture.Categories.movies());
+        final var trailers = CategoryChange.save(Fixture.Categories.trailers());
+        final var expectedApplied = 1;
+
+        when(categoryGateway.bulk(any()))
+                .thenReturn(new CategoryBulkResult(List.of(trailers), List.of()));
+
+        // when
+        final var currentOutput = this.useCase.execute(List.of(movies, trailers));
+
+        // then
+        Assertions.assertEquals(expectedApplied, currentOutput.applied());
+        Assertions.assertEquals(List.of(trailers), currentOutput.failed());
+    }
+
+    @Test
+    void givenStaleChanges_whenCallsBulk_shouldReturnThemAsDiscardedNotApplied() {
+        // given
+        final var movies = CategoryChange.save(Fixture.Categories.movies(), 2_000L);
+        final var trailers = CategoryChange.save(Fixture.Categories.trailers(), 1_000L);
+        final var expectedApplied = 1;
+
+        when(categoryGateway.bulk(any()))
+                .thenReturn(new CategoryBulkResult(List.of(), List.of(trailers)));
+
+        // when
+        final var currentOutput = this.useCase.execute(List.of(movies, trailers));
+
+        // then
+        Assertions.assertEquals(expectedApplied, currentOutput.applied());
+        Assertions.assertTrue(currentOutput.failed().isEmpty());
+        Assertions.assertEquals(List.of(trailers), currentOutput.discarded());
+    }
+
+    @Test
+    void givenInvalidCategory_whenCallsBulk_shouldNotSendItToGateway() {
+        // given
+        final var movies = CategoryChange.save(Fixture.Categories.movies());
+        final var invalid = CategoryChange.save(Category.with(
+                "123",
+                "",
+                "Some description",
+                true,
+                InstantUtils.now(),
+                InstantUtils.now(),
+                null
+        ));
+
+        when(categoryGateway.bulk(any()))
+                .thenReturn(CategoryBulkResult.empty());
+
+        // when
+        final var currentOutput = this.useCase.execute(List.of(movies, invalid));
+
+        // then
+        Assertions.assertEquals(1, currentOutput.applied());
+        Assertions.assertEquals(List.of(invalid), currentOutput.failed());
+
+        verify(categoryGateway, times(1)).bulk(eq(List.of(movies)));
+    }
+
+    @Test
+    void givenEmptyChanges_whenCallsBulk_shouldNotCallGateway() {
+        // when
+        final var currentOutput = this.useCase.execute(List.of());
+
+        // then
+        Assertions.assertEquals(0, currentOutput.applied());
+        Assertions.assertTrue(currentOutput.failed().isEmpty());
+
+        verify(categoryGateway, never()).bulk(any());
+    }
+}
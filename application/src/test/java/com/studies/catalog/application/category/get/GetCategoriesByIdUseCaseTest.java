@@ -0,0 +1,69 @@
+package com.studies.catalog.application.category.get;
+
+import com.studies.catalog.application.UseCaseTest;
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class GetCategoriesByIdUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private GetCategoriesByIdUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenValidIds_whenCallsGetCategoriesById_shouldReturnThem() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var expectedIds = List.of(movies.id(), trailers.id());
+
+        when(categoryGateway.findAllById(any()))
+                .thenReturn(List.of(movies, trailers));
+
+        // when
+        final var currentOutput = this.useCase.execute(expectedIds);
+
+        // then
+        Assertions.assertEquals(List.of(movies, trailers), currentOutput);
+        verify(categoryGateway, times(1)).findAllById(eq(expectedIds));
+    }
+
+    @Test
+    void givenEmptyIds_whenCallsGetCategoriesById_shouldNotCallGateway() {
+        // when
+        final var currentOutput = this.useCase.execute(List.of());
+
+        // then
+        Assertions.assertTrue(currentOutput.isEmpty());
+        verify(categoryGateway, never()).findAllById(any());
+    }
+
+    @Test
+    void givenValidIds_whenCallsGetCategoriesByIdAsync_shouldCompleteWithThem() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var expectedIds = List.of(movies.id());
+
+        when(categoryGateway.findAllByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(movies)));
+
+        // when
+        final var currentOutput = this.useCase.executeAsync(expectedIds);
+
+        // then
+        Assertions.assertEquals(List.of(movies), currentOutput.join());
+        verify(categoryGateway, never()).findAllById(any());
+    }
+}
@@ -2,6 +2,7 @@ package com.studies.catalog.application.category.list;
 
 import com.studies.catalog.application.UseCaseTest;
 import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.category.Category;
 import com.studies.catalog.domain.category.CategoryGateway;
 import com.studies.catalog.domain.category.CategorySearchQuery;
 import com.studies.catalog.domain.pagination.Pagination;
@@ -11,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -61,4 +63,33 @@ class ListCategoryUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedItems.size(), currentOutput.data().size());
         Assertions.assertTrue(expectedItems.containsAll(currentOutput.data()));
     }
+
+    @Test
+    void givenValidQuery_whenCallsListCategoriesAsync_shouldCompleteWithCategories() {
+        // given
+        final var categories = List.of(
+                Fixture.Categories.movies(),
+                Fixture.Categories.trailers()
+        );
+
+        final var expectedItems = categories.stream()
+                .map(ListCategoryOutput::from)
+                .toList();
+
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var pending = new CompletableFuture<Pagination<Category>>();
+
+        when(this.categoryGateway.findAllAsync(any()))
+                .thenReturn(pending);
+
+        // when
+        final var currentOutput = this.useCase.executeAsync(aQuery);
+
+        // then
+        Assertions.assertFalse(currentOutput.isDone());
+
+        pending.complete(new Pagination<>(0, 10, categories.size(), categories));
+
+        Assertions.assertEquals(expectedItems, currentOutput.join().data());
+    }
 }
@@ -0,0 +1,61 @@
+package com.studies.catalog.application.category.suggest;
+
+import com.studies.catalog.application.UseCaseTest;
+import com.studies.catalog.application.category.list.ListCategoryOutput;
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.category.CategoryGateway;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SuggestCategoriesUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private SuggestCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenAPrefix_whenCallsSuggestCategories_shouldReturnTheSuggestions() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var expectedQuery = new CategorySuggestionQuery("mov", 5);
+
+        when(categoryGateway.suggest(any()))
+                .thenReturn(List.of(movies));
+
+        // when
+        final var currentOutput = this.useCase.execute(expectedQuery);
+
+        // then
+        Assertions.assertEquals(List.of(ListCategoryOutput.from(movies)), currentOutput);
+        verify(categoryGateway, times(1)).suggest(eq(expectedQuery));
+    }
+
+    @Test
+    void givenABlankPrefix_whenCallsSuggestCategories_shouldNotCallGateway() {
+        // when
+        final var currentOutput = this.useCase.execute(new CategorySuggestionQuery("  ", 5));
+
+        // then
+        Assertions.assertTrue(currentOutput.isEmpty());
+        verify(categoryGateway, never()).suggest(any());
+    }
+
+    @Test
+    void givenALimitAboveTheCap_whenCreatingTheQuery_shouldClampIt() {
+        // when
+        final var aQuery = new CategorySuggestionQuery("mov", 1000);
+
+        // then
+        Assertions.assertEquals(CategorySuggestionQuery.MAX_LIMIT, aQuery.limit());
+    }
+}
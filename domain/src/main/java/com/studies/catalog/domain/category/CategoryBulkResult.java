@@ -0,0 +1,17 @@
+package com.studies.catalog.domain.category;
+
+import java.util.List;
+
+/**
+ * What a bulk did not apply: {@code failed} changes should be tried again, {@code discarded} ones were older than
+ * what the store already holds and never will be.
+ */
+public record CategoryBulkResult(
+        List<CategoryChange> failed,
+        List<CategoryChange> discarded
+) {
+
+    public static CategoryBulkResult empty() {
+        return new CategoryBulkResult(List.of(), List.of());
+    }
+}
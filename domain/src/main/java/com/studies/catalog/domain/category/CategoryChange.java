@@ -0,0 +1,32 @@
+package com.studies.catalog.domain.category;
+
+public record CategoryChange(
+        String id,
+        Category category,
+        Long version
+) {
+
+    public static CategoryChange save(final Category aCategory) {
+        return save(aCategory, null);
+    }
+
+    public static CategoryChange save(final Category aCategory, final Long aVersion) {
+        return new CategoryChange(aCategory.id(), aCategory, aVersion);
+    }
+
+    public static CategoryChange delete(final String anId) {
+        return delete(anId, null);
+    }
+
+    public static CategoryChange delete(final String anId, final Long aVersion) {
+        return new CategoryChange(anId, null, aVersion);
+    }
+
+    public boolean isDelete() {
+        return category == null;
+    }
+
+    public boolean isVersioned() {
+        return version != null;
+    }
+}
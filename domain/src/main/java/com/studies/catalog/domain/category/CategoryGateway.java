@@ -2,7 +2,10 @@ package com.studies.catalog.domain.category;
 
 import com.studies.catalog.domain.pagination.Pagination;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface CategoryGateway {
 
@@ -12,6 +15,27 @@ public interface CategoryGateway {
 
     Optional<Category> findById(String anId);
 
+    List<Category> findAllById(Collection<String> ids);
+
     Pagination<Category> findAll(CategorySearchQuery aQuery);
 
+    List<Category> suggest(CategorySuggestionQuery aQuery);
+
+    CategoryBulkResult bulk(List<CategoryChange> changes);
+
+    /**
+     * Same as {@link #findAllById(Collection)}, completed once the categories are read. Gateways backed by a remote
+     * store return before the answer arrives; the default answers on the calling thread.
+     */
+    default CompletableFuture<List<Category>> findAllByIdAsync(final Collection<String> ids) {
+        return CompletableFuture.completedFuture(findAllById(ids));
+    }
+
+    /**
+     * Same as {@link #findAll(CategorySearchQuery)}, completed once the page is read.
+     */
+    default CompletableFuture<Pagination<Category>> findAllAsync(final CategorySearchQuery aQuery) {
+        return CompletableFuture.completedFuture(findAll(aQuery));
+    }
+
 }
@@ -1,10 +1,57 @@
 package com.studies.catalog.domain.category;
 
+import java.util.Set;
+
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        Set<String> fields
 ) {
+
+    public static final String RELEVANCE = "relevance";
+
+    public CategorySearchQuery {
+        fields = fields != null ? Set.copyOf(fields) : Set.of();
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, Set.of());
+    }
+
+    public CategorySearchQuery withFields(final Set<String> someFields) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, someFields);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    public boolean hasProjection() {
+        return !fields.isEmpty();
+    }
+
+    public boolean sortsByRelevance() {
+        return RELEVANCE.equals(sort);
+    }
 }
@@ -0,0 +1,15 @@
+package com.studies.catalog.domain.category;
+
+public record CategorySuggestionQuery(String prefix, int limit) {
+
+    public static final int MAX_LIMIT = 10;
+
+    public CategorySuggestionQuery {
+        prefix = prefix != null ? prefix.strip() : "";
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public boolean isBlank() {
+        return prefix.isEmpty();
+    }
+}
@@ -3,6 +3,11 @@ package com.studies.catalog.domain.pagination;
 public record Metadata(
         int currentPage,
         int perPage,
-        long total
+        long total,
+        String nextCursor
 ) {
+
+    public Metadata(final int currentPage, final int perPage, final long total) {
+        this(currentPage, perPage, total, null);
+    }
 }
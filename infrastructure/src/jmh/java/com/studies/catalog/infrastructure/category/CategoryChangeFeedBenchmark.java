@@ -0,0 +1,110 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.utils.IdUtils;
+import com.studies.catalog.infrastructure.category.models.CategoryChangeEvent;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryFeedProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cost of fanning one listener batch out to every subscription: a third of them watch everything, a third a few ids
+ * and a third only active categories. Subscribers just count what they get, so the numbers are the feed's own cost:
+ * {@code ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryChangeFeedBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryChangeFeedBenchmark {
+
+    private static final int CATEGORIES = 10_000;
+    private static final int WATCHED_IDS = 5;
+
+    @Param({"1000", "10000"})
+    private int subscribers;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private CategoryChangeFeed feed;
+    private List<Category> categories;
+    private List<Counter> counters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var properties = new CategoryFeedProperties();
+        properties.setEnabled(true);
+        this.feed = new CategoryChangeFeed(properties);
+        this.categories = new ArrayList<>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            final var now = Instant.ofEpochMilli(1_690_000_000_000L + i);
+            this.categories.add(Category.with(IdUtils.uniqueId(), "Category " + i, null, i % 10 != 0, now, now, null));
+        }
+
+        final var random = ThreadLocalRandom.current();
+        this.counters = new ArrayList<>(this.subscribers);
+        for (int i = 0; i < this.subscribers; i++) {
+            final var counter = new Counter();
+            this.feed.subscribe(filterOf(i, random)).subscribe(counter);
+            this.counters.add(counter);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.counters.forEach(Counter::dispose);
+    }
+
+    @Benchmark
+    public void publish() {
+        final var random = ThreadLocalRandom.current();
+        final var changes = new ArrayList<CategoryChange>(this.batchSize);
+        for (int i = 0; i < this.batchSize; i++) {
+            final var category = this.categories.get(random.nextInt(CATEGORIES));
+            changes.add(random.nextInt(20) == 0 ? CategoryChange.delete(category.id()) : CategoryChange.save(category));
+        }
+        this.feed.publish(changes);
+    }
+
+    private CategoryFeedFilter filterOf(final int subscriber, final ThreadLocalRandom random) {
+        return switch (subscriber % 3) {
+            case 0 -> new CategoryFeedFilter(null, false);
+            case 1 -> {
+                final var ids = new ArrayList<String>(WATCHED_IDS);
+                for (int i = 0; i < WATCHED_IDS; i++) {
+                    ids.add(this.categories.get(random.nextInt(CATEGORIES)).id());
+                }
+                yield new CategoryFeedFilter(Set.copyOf(ids), false);
+            }
+            default -> new CategoryFeedFilter(null, true);
+        };
+    }
+
+    private static final class Counter extends BaseSubscriber<CategoryChangeEvent> {
+
+        private final LongAdder received = new LongAdder();
+
+        @Override
+        protected void hookOnNext(final CategoryChangeEvent event) {
+            this.received.increment();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.utils.IdUtils;
+import com.studies.catalog.domain.utils.InstantUtils;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Heap retained per category by a {@code ConcurrentHashMap<String, Category>} against the columnar
+ * {@link CategoryStore} alone and the fully populated {@link CategoryInMemoryGateway}, which adds the id index, the
+ * sort orders, the token index and the name trie on top of the store. Measured with JOL. Run with
+ * {@code ./gradlew :infrastructure:categoryFootprint}, optionally passing the catalogue size with
+ * {@code -Pcategories=50000}.
+ */
+public final class CategoryFootprintReport {
+
+    private static final String[] NAMES = {"Movies", "Series", "Documentaries", "Trailers", "Kids", "Anime", "Sports"};
+    private static final String[] DESCRIPTIONS = {"Most watched category", "Some description", null};
+
+    private CategoryFootprintReport() {
+    }
+
+    public static void main(final String[] args) {
+        final var size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+
+        final var objects = new ConcurrentHashMap<String, Category>(size);
+        final var store = new CategoryStore(size);
+        final var changes = new ArrayList<CategoryChange>(size);
+
+        for (int i = 0; i < size; i++) {
+            final var now = InstantUtils.now();
+            final var category = Category.with(
+                    IdUtils.uniqueId(),
+                    NAMES[i % NAMES.length] + " " + i,
+                    DESCRIPTIONS[i % DESCRIPTIONS.length],
+                    i % 5 != 0,
+                    now,
+                    now,
+                    null
+            );
+
+            objects.put(category.id(), category);
+            store.add(category, (long) i);
+            changes.add(CategoryChange.save(category, (long) i));
+        }
+
+        // loaded in one write, as a hydration does, so the measured version shares nothing with discarded ones
+        final var gateway = new CategoryInMemoryGateway();
+        gateway.load(changes);
+        gateway.forgetDeletes();
+        changes.clear();
+
+        final var before = GraphLayout.parseInstance(objects).totalSize();
+        final var columns = GraphLayout.parseInstance(store).totalSize();
+        final var replica = GraphLayout.parseInstance(gateway);
+        final var after = replica.totalSize();
+
+        System.out.printf("categories: %d%n", size);
+        System.out.printf("ConcurrentHashMap<String, Category>: %,d bytes (%d bytes/category)%n", before, before / size);
+        System.out.printf("CategoryStore:                       %,d bytes (%d bytes/category)%n", columns, columns / size);
+        System.out.printf("CategoryInMemoryGateway:             %,d bytes (%d bytes/category)%n", after, after / size);
+        System.out.println();
+        System.out.println(replica.toFootprint());
+    }
+}
@@ -0,0 +1,88 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.utils.IdUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link CategoryIdIndex} with the {@code ConcurrentHashMap<String, Integer>} it replaced. Lookups use
+ * copies of the stored ids, as ids decoded from a record or a request never share the stored instance. Run with
+ * {@code ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryIdIndexBenchmark -Pjmh.profilers=gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryIdIndexBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private String[] lookups;
+    private CategoryIdIndex index;
+    private ConcurrentHashMap<String, Integer> map;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.lookups = new String[this.size];
+        this.index = new CategoryIdIndex(this.size);
+        this.map = new ConcurrentHashMap<>(this.size);
+
+        for (int i = 0; i < this.size; i++) {
+            final var anId = IdUtils.uniqueId();
+            this.index.put(anId, i);
+            this.map.put(anId, i);
+            this.lookups[i] = new String(anId.toCharArray());
+        }
+    }
+
+    @Benchmark
+    public int indexGet() {
+        return this.index.get(next());
+    }
+
+    @Benchmark
+    public Integer mapGet() {
+        return this.map.get(next());
+    }
+
+    @Benchmark
+    public int indexPut() {
+        final var i = this.cursor;
+        return this.index.put(next(), i);
+    }
+
+    @Benchmark
+    public Integer mapPut() {
+        final var i = this.cursor;
+        return this.map.put(next(), i);
+    }
+
+    @Benchmark
+    public int indexRemoveAndPut() {
+        final var anId = next();
+        return this.index.put(anId, this.index.remove(anId));
+    }
+
+    @Benchmark
+    public Integer mapRemoveAndPut() {
+        final var anId = next();
+        return this.map.put(anId, this.map.remove(anId));
+    }
+
+    private String next() {
+        final var anId = this.lookups[this.cursor];
+        this.cursor = this.cursor + 1 == this.size ? 0 : this.cursor + 1;
+        return anId;
+    }
+}
@@ -0,0 +1,117 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryBulkResult;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+import com.studies.catalog.domain.pagination.Pagination;
+import com.studies.catalog.domain.utils.IdUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read throughput of the in-memory gateway, alone and next to a writer applying one batch per call like the Kafka
+ * listener does, plus the latency distribution of typeahead suggestions. Compare runs with {@code -Pjmh.threads=1},
+ * {@code 2}, {@code 4}... to see how reads scale:
+ * {@code ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryInMemoryGatewayBenchmark -Pjmh.threads=4}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategoryInMemoryGatewayBenchmark {
+
+    private static final CategorySearchQuery PAGE = new CategorySearchQuery(3, 25, "", "name", "asc");
+    private static final CategorySearchQuery SEARCH = new CategorySearchQuery(0, 25, "ser", "updated_at", "desc");
+    private static final List<CategorySuggestionQuery> KEYSTROKES = List.of(
+            new CategorySuggestionQuery("c", 5),
+            new CategorySuggestionQuery("ca", 5),
+            new CategorySuggestionQuery("series a", 5),
+            new CategorySuggestionQuery("docu", 5)
+    );
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private CategoryInMemoryGateway gateway;
+    private List<String> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.gateway = new CategoryInMemoryGateway();
+        this.ids = new ArrayList<>(this.size);
+
+        final var changes = new ArrayList<CategoryChange>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            final var anId = IdUtils.uniqueId();
+            this.ids.add(anId);
+            changes.add(CategoryChange.save(categoryOf(anId, i), (long) i));
+        }
+        this.gateway.bulk(changes);
+    }
+
+    @Benchmark
+    public Pagination<Category> page() {
+        return this.gateway.findAll(PAGE);
+    }
+
+    @Benchmark
+    public Category findById() {
+        return this.gateway.findById(randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Category> suggest() {
+        return this.gateway.suggest(KEYSTROKES.get(ThreadLocalRandom.current().nextInt(KEYSTROKES.size())));
+    }
+
+    @Benchmark
+    @Group("withWriter")
+    @GroupThreads(3)
+    public Pagination<Category> pageWhileWriting() {
+        return this.gateway.findAll(SEARCH);
+    }
+
+    @Benchmark
+    @Group("withWriter")
+    @GroupThreads(1)
+    public CategoryBulkResult write() {
+        final var random = ThreadLocalRandom.current();
+        final var changes = new ArrayList<CategoryChange>(this.batchSize);
+        for (int i = 0; i < this.batchSize; i++) {
+            final var version = random.nextLong(this.size, Long.MAX_VALUE);
+            changes.add(CategoryChange.save(categoryOf(randomId(), random.nextInt()), version));
+        }
+        return this.gateway.bulk(changes);
+    }
+
+    private String randomId() {
+        return this.ids.get(ThreadLocalRandom.current().nextInt(this.ids.size()));
+    }
+
+    private static Category categoryOf(final String anId, final int i) {
+        final var now = Instant.ofEpochMilli(1_690_000_000_000L + i);
+        final var name = (i % 2 == 0 ? "Series and movies " : "Documentaries ") + Integer.toString(i, 36);
+        return Category.with(anId, name, "Category " + i, true, now, now, null);
+    }
+}
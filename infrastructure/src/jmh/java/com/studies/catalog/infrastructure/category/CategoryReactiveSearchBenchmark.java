@@ -0,0 +1,199 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.utils.IdUtils;
+import com.studies.catalog.infrastructure.configuration.WebServerConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second {@code /graphql} gets through when Elasticsearch is slow, with Undertow held to a fixed number of
+ * {@code workers}. The whole application is started against a local server that plays Elasticsearch and answers every
+ * search with one page after {@code delayMillis}; caches, Kafka listeners and security are off so every request
+ * reaches it: {@code ./gradlew :infrastructure:jmh -Pjmh.includes=CategoryReactiveSearchBenchmark}.
+ * <p>
+ * {@code categories} returns a Mono, its worker is handed back while the search is out and the connection pool bounds
+ * what is in flight. {@code suggestCategories} still blocks its worker for the whole search, so it tops out near
+ * {@code workers * 1000 / delayMillis} and is the baseline the reactive read is measured against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CategoryReactiveSearchBenchmark {
+
+    private static final int IN_FLIGHT = 200;
+    private static final int PER_PAGE = 25;
+    private static final String SEARCH = """
+            {"query":"{ categories(perPage: %d) { id name } }"}""".formatted(PER_PAGE);
+    private static final String SUGGEST = """
+            {"query":"{ suggestCategories(prefix: \\"cat\\", limit: 5) { id name } }"}""";
+
+    @Param({"10", "64"})
+    private int workers;
+
+    @Param({"20", "100"})
+    private int delayMillis;
+
+    private HttpServer elasticsearch;
+    private ExecutorService elasticsearchThreads;
+    private byte[] searchResponse;
+    private ConfigurableApplicationContext application;
+    private ExecutorService clientThreads;
+    private HttpClient client;
+    private HttpRequest search;
+    private HttpRequest suggest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.searchResponse = searchResponse();
+        this.elasticsearchThreads = Executors.newCachedThreadPool();
+        this.elasticsearch = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), IN_FLIGHT * 2);
+        this.elasticsearch.setExecutor(this.elasticsearchThreads);
+        this.elasticsearch.createContext("/", this::answer);
+        this.elasticsearch.start();
+
+        // command line arguments, so they win over what the sandbox profile sets
+        this.application = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("sandbox")
+                .run(
+                        "--server.port=0",
+                        "--server.undertow.threads.worker=" + this.workers,
+                        "--elasticsearch.uris=http://127.0.0.1:" + this.elasticsearch.getAddress().getPort(),
+                        "--cache.categories.enabled=false",
+                        "--feed.categories.enabled=false",
+                        "--spring.kafka.admin.auto-create=false",
+                        "--logging.level.root=warn"
+                );
+        this.application.getBean(KafkaListenerEndpointRegistry.class).stop();
+
+        final var port = this.application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        final var graphql = URI.create("http://127.0.0.1:%d/api/graphql".formatted(port));
+
+        this.clientThreads = Executors.newFixedThreadPool(4);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(this.clientThreads)
+                .build();
+        this.search = post(graphql, SEARCH);
+        this.suggest = post(graphql, SUGGEST);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.application.close();
+        this.clientThreads.shutdownNow();
+        this.elasticsearch.stop(0);
+        this.elasticsearchThreads.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT)
+    public List<String> reactiveSearch() {
+        return send(this.search);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IN_FLIGHT)
+    public List<String> blockingSuggest() {
+        return send(this.suggest);
+    }
+
+    private List<String> send(final HttpRequest request) {
+        final var responses = new ArrayList<CompletableFuture<String>>(IN_FLIGHT);
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            responses.add(this.client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .thenApply(CategoryReactiveSearchBenchmark::bodyOf));
+        }
+        return responses.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static String bodyOf(final HttpResponse<String> response) {
+        // an answer without data would be measured as fast as a real one
+        if (response.statusCode() != 200 || response.body().contains("\"errors\"")) {
+            throw new IllegalStateException("GraphQL answered %d: %s".formatted(response.statusCode(), response.body()));
+        }
+        return response.body();
+    }
+
+    private static HttpRequest post(final URI uri, final String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    /**
+     * Searches are answered with one page after the delay, anything else the application sends on startup, such as
+     * checking that the index exists, right away.
+     */
+    private void answer(final HttpExchange exchange) throws IOException {
+        try {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+
+            if (!exchange.getRequestURI().getPath().endsWith("/_search")) {
+                final var body = "{}".getBytes(StandardCharsets.UTF_8);
+                if ("HEAD".equals(exchange.getRequestMethod())) {
+                    exchange.sendResponseHeaders(200, -1);
+                } else {
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+                return;
+            }
+
+            Thread.sleep(this.delayMillis);
+            exchange.sendResponseHeaders(200, this.searchResponse.length);
+            exchange.getResponseBody().write(this.searchResponse);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static byte[] searchResponse() {
+        final var hits = new ArrayList<String>(PER_PAGE);
+        for (int i = 0; i < PER_PAGE; i++) {
+            final var id = IdUtils.uniqueId();
+            final var name = "Category %03d".formatted(i);
+            hits.add("""
+                    {"_index":"categories","_id":"%s","_score":null,"_source":{"id":"%s","name":"%s","active":true},"sort":["%s","%s"]}"""
+                    .formatted(id, id, name, name, id));
+        }
+
+        return """
+                {"took":1,"timed_out":false,"_shards":{"total":1,"successful":1,"skipped":0,"failed":0},\
+                "hits":{"total":{"value":10000,"relation":"eq"},"max_score":null,"hits":[%s]}}"""
+                .formatted(String.join(",", hits))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,131 @@
+package com.studies.catalog.infrastructure.category;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.utils.IdUtils;
+import com.studies.catalog.infrastructure.category.persistence.CategoryDocument;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.elasticsearch.core.query.Criteria.where;
+
+/**
+ * Latency of the category search against a real index: the wildcard {@code contains} criteria it replaced next to
+ * the analyzed multi_match, sorted by name and by relevance. Needs a running Elasticsearch, the index is created with
+ * the {@link CategoryDocument} settings and dropped afterwards. Run with
+ * {@code ./gradlew :infrastructure:jmh -Pjmh.includes=CategorySearchBenchmark -Pjmh.elasticsearch=http://localhost:9200}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategorySearchBenchmark {
+
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("categories-search-benchmark");
+    private static final int BATCH_SIZE = 5_000;
+    private static final int PER_PAGE = 25;
+
+    private static final String[] WORDS = {
+            "ação", "animação", "aventura", "comédia", "documentário", "drama", "esporte", "família", "ficção",
+            "guerra", "história", "infantil", "música", "mistério", "policial", "romance", "suspense", "terror",
+            "clássicos", "nacionais", "séries", "filmes", "curtas", "estreias", "premiados", "independentes"
+    };
+    private static final List<String> TERMS = List.of("acao", "anim", "documentarios", "filmes de terror", "serie pol");
+
+    @Param({"100000", "500000"})
+    private int size;
+
+    private RestClient restClient;
+    private ElasticsearchTemplate template;
+    private IndexOperations index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.restClient = RestClient.builder(HttpHost.create(System.getProperty("elasticsearch.uris", "http://localhost:9200"))).build();
+        this.template = new ElasticsearchTemplate(new ElasticsearchClient(new RestClientTransport(this.restClient, new JacksonJsonpMapper())));
+        this.index = this.template.indexOps(INDEX);
+
+        if (this.index.exists()) {
+            this.index.delete();
+        }
+        this.index.create(this.index.createSettings(CategoryDocument.class), this.index.createMapping(CategoryDocument.class));
+
+        final var batch = new ArrayList<CategoryDocument>(BATCH_SIZE);
+        for (int i = 0; i < this.size; i++) {
+            batch.add(CategoryDocument.from(categoryOf(i)));
+            if (batch.size() == BATCH_SIZE) {
+                this.template.save(batch, INDEX);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            this.template.save(batch, INDEX);
+        }
+        this.index.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.index.delete();
+        this.restClient.close();
+    }
+
+    @Benchmark
+    public SearchHits<CategoryDocument> wildcardByName() {
+        final var terms = randomTerms();
+        return search(new CriteriaQuery(where("name").contains(terms).or(where("description").contains(terms))), Sort.by("name.keyword", "id"));
+    }
+
+    @Benchmark
+    public SearchHits<CategoryDocument> multiMatchByName() {
+        return search(CategoryElasticsearchGateway.searchQuery(randomTerms()), Sort.by("name.keyword", "id"));
+    }
+
+    @Benchmark
+    public SearchHits<CategoryDocument> multiMatchByRelevance() {
+        return search(CategoryElasticsearchGateway.searchQuery(randomTerms()), Sort.by(Sort.Order.desc("_score"), Sort.Order.asc("id")));
+    }
+
+    private SearchHits<CategoryDocument> search(final Query query, final Sort sort) {
+        query.setPageable(PageRequest.of(0, PER_PAGE, sort));
+        return this.template.search(query, CategoryDocument.class, INDEX);
+    }
+
+    private static String randomTerms() {
+        return TERMS.get(ThreadLocalRandom.current().nextInt(TERMS.size()));
+    }
+
+    private static Category categoryOf(final int i) {
+        final var random = ThreadLocalRandom.current();
+        final var name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + Integer.toString(i, 36);
+        final var description = "Títulos de " + WORDS[random.nextInt(WORDS.length)] + " e " + WORDS[random.nextInt(WORDS.length)];
+        final var now = Instant.ofEpochMilli(1_690_000_000_000L + i);
+        return Category.with(IdUtils.uniqueId(), name, description, true, now, now, null);
+    }
+}
@@ -0,0 +1,119 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.infrastructure.category.models.CategoryEvent;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+import com.studies.catalog.infrastructure.kafka.connect.ValuePayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static com.studies.catalog.infrastructure.kafka.CategoryListener.CATEGORY_MESSAGE;
+
+/**
+ * Compares the StringDeserializer + databind path with the streaming decoder over a Debezium envelope carrying
+ * its schema block. Run with {@code ./gradlew :infrastructure:jmh -Pjmh.profilers=gc} to see allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryEnvelopeDecoderBenchmark {
+
+    private static final String ENVELOPE = """
+            {
+              "schema": {
+                "type": "struct",
+                "fields": [
+                  {"type": "struct", "fields": [
+                    {"type": "string", "optional": false, "field": "id"},
+                    {"type": "string", "optional": false, "field": "name"},
+                    {"type": "string", "optional": true, "field": "description"},
+                    {"type": "boolean", "optional": false, "field": "is_active"},
+                    {"type": "int64", "optional": false, "name": "io.debezium.time.MicroTimestamp", "version": 1, "field": "created_at"},
+                    {"type": "int64", "optional": false, "name": "io.debezium.time.MicroTimestamp", "version": 1, "field": "updated_at"},
+                    {"type": "int64", "optional": true, "name": "io.debezium.time.MicroTimestamp", "version": 1, "field": "deleted_at"}
+                  ], "optional": true, "name": "adm_videos_mysql.adm_videos.categories.Value", "field": "before"},
+                  {"type": "struct", "fields": [
+                    {"type": "string", "optional": false, "field": "id"},
+                    {"type": "string", "optional": false, "field": "name"},
+                    {"type": "string", "optional": true, "field": "description"},
+                    {"type": "boolean", "optional": false, "field": "is_active"},
+                    {"type": "int64", "optional": false, "name": "io.debezium.time.MicroTimestamp", "version": 1, "field": "created_at"},
+                    {"type": "int64", "optional": false, "name": "io.debezium.time.MicroTimestamp", "version": 1, "field": "updated_at"},
+                    {"type": "int64", "optional": true, "name": "io.debezium.time.MicroTimestamp", "version": 1, "field": "deleted_at"}
+                  ], "optional": true, "name": "adm_videos_mysql.adm_videos.categories.Value", "field": "after"},
+                  {"type": "struct", "fields": [
+                    {"type": "string", "optional": false, "field": "version"},
+                    {"type": "string", "optional": false, "field": "connector"},
+                    {"type": "string", "optional": false, "field": "name"},
+                    {"type": "int64", "optional": false, "field": "ts_ms"},
+                    {"type": "string", "optional": false, "field": "db"},
+                    {"type": "string", "optional": true, "field": "table"},
+                    {"type": "string", "optional": true, "field": "file"},
+                    {"type": "int64", "optional": false, "field": "pos"}
+                  ], "optional": false, "name": "io.debezium.connector.mysql.Source", "field": "source"},
+                  {"type": "string", "optional": false, "field": "op"},
+                  {"type": "int64", "optional": true, "field": "ts_ms"}
+                ],
+                "optional": false,
+                "name": "adm_videos_mysql.adm_videos.categories.Envelope"
+              },
+              "payload": {
+                "before": {
+                  "id": "8f3c0a5e2b7d4c1f9e6a3b2d1c0f9e8d",
+                  "name": "Movies",
+                  "description": "Feature films",
+                  "is_active": true,
+                  "created_at": 1690000000123456,
+                  "updated_at": 1690000000123456,
+                  "deleted_at": null
+                },
+                "after": {
+                  "id": "8f3c0a5e2b7d4c1f9e6a3b2d1c0f9e8d",
+                  "name": "Movies & Series",
+                  "description": "Feature films and series",
+                  "is_active": true,
+                  "created_at": 1690000000123456,
+                  "updated_at": 1690000000223456,
+                  "deleted_at": null
+                },
+                "source": {
+                  "version": "2.2.1.Final",
+                  "connector": "mysql",
+                  "name": "adm_videos_mysql",
+                  "ts_ms": 1690000000300,
+                  "db": "adm_videos",
+                  "table": "categories",
+                  "file": "mysql-bin.000003",
+                  "pos": 1547
+                },
+                "op": "u",
+                "ts_ms": 1690000000400,
+                "transaction": null
+              }
+            }
+            """;
+
+    private byte[] value;
+
+    @Setup
+    public void setUp() {
+        this.value = ENVELOPE.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ValuePayload<CategoryEvent> databind() {
+        return Json.readValue(new String(value, StandardCharsets.UTF_8), CATEGORY_MESSAGE).payload();
+    }
+
+    @Benchmark
+    public ValuePayload<CategoryEvent> streaming() {
+        return CategoryEnvelopeDecoder.decode(value);
+    }
+}
@@ -0,0 +1,141 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryLookupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of categories by id for the index gateway decorator. Misses are cached as
+ * negative entries with their own TTL, and concurrent loads of one id collapse into a single backend call.
+ * <p>
+ * An eviction bumps the generation of the id's stripe, and a load only caches its answer when the generation it
+ * started under is still current: whatever it read may predate the write that caused the eviction.
+ */
+public class CategoryCache {
+
+    private static final int GENERATION_STRIPES = 1_024;
+
+    private final Cache<String, Optional<Category>> entries;
+    private final AtomicLongArray generations;
+
+    public CategoryCache(final String name, final CategoryLookupCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfter(new EntryExpiry(properties.ttl(), properties.negativeTtl()))
+                .recordStats()
+                .build();
+
+        this.generations = new AtomicLongArray(GENERATION_STRIPES);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.entries, name);
+    }
+
+    public Optional<Category> get(final String anId, final Function<String, Optional<Category>> loader) {
+        final var generation = generationOf(anId);
+        final var entry = this.entries.get(anId, loader);
+
+        if (generationOf(anId) != generation) {
+            // evicted while loading, the caller still gets the answer but it is not kept
+            this.entries.asMap().remove(anId, entry);
+        }
+        return entry;
+    }
+
+    public Map<String, Category> getAll(
+            final Collection<String> ids,
+            final Function<Collection<String>, Map<String, Category>> loader
+    ) {
+        return getAllAsync(ids, missing -> CompletableFuture.completedFuture(loader.apply(missing))).join();
+    }
+
+    /**
+     * Same as {@link #getAll(Collection, Function)} with a loader that answers later, the missing entries are cached
+     * when it does.
+     */
+    public CompletableFuture<Map<String, Category>> getAllAsync(
+            final Collection<String> ids,
+            final Function<Collection<String>, CompletableFuture<Map<String, Category>>> loader
+    ) {
+        final var categories = new HashMap<String, Category>(ids.size());
+        final var missing = new LinkedHashMap<String, Long>();
+
+        for (final var anId : ids) {
+            final var generation = generationOf(anId);
+            final var entry = this.entries.getIfPresent(anId);
+            if (entry != null) {
+                entry.ifPresent(category -> categories.put(anId, category));
+            } else {
+                missing.put(anId, generation);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return CompletableFuture.completedFuture(categories);
+        }
+
+        return loader.apply(List.copyOf(missing.keySet())).thenApply(loaded -> {
+            missing.forEach((anId, generation) -> {
+                final var category = loaded.get(anId);
+                // checked under the entry's lock, an eviction either sees the entry or the load sees the eviction
+                this.entries.asMap().compute(anId, (id, current) ->
+                        generationOf(id) == generation ? Optional.ofNullable(category) : current);
+                if (category != null) {
+                    categories.put(anId, category);
+                }
+            });
+            return categories;
+        });
+    }
+
+    public void evict(final String anId) {
+        this.generations.incrementAndGet(stripeOf(anId));
+        this.entries.invalidate(anId);
+    }
+
+    public void evictAll(final Collection<String> ids) {
+        ids.forEach(anId -> this.generations.incrementAndGet(stripeOf(anId)));
+        this.entries.invalidateAll(ids);
+    }
+
+    private long generationOf(final String anId) {
+        return this.generations.get(stripeOf(anId));
+    }
+
+    private static int stripeOf(final String anId) {
+        return Math.floorMod(anId.hashCode(), GENERATION_STRIPES);
+    }
+
+    private record EntryExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, Optional<Category>> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Optional<Category> entry, final long currentTime) {
+            return (entry.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Optional<Category> entry, final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Optional<Category> entry, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
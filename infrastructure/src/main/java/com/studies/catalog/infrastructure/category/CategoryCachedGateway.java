@@ -0,0 +1,214 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryBulkResult;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.category.CategoryGateway;
+import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+import com.studies.catalog.domain.pagination.Pagination;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryLookupCacheProperties;
+import com.studies.catalog.infrastructure.configuration.properties.CategorySearchCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Primary
+@Component
+// the replica already answers reads locally, caching in front of it would only serve stale pages
+@ConditionalOnExpression("${cache.categories.enabled:true} and !${replica.categories.enabled:false}")
+public class CategoryCachedGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final AsyncCache<SearchKey, Pagination<Category>> searches;
+    private final Cache<SuggestionKey, List<Category>> suggestions;
+    private final CategoryCache categories;
+    private final AtomicLong generation;
+    private final Executor afterRefresh;
+
+    public CategoryCachedGateway(
+            final CategoryElasticsearchGateway delegate,
+            final CategorySearchCacheProperties searchProperties,
+            final CategoryLookupCacheProperties lookupProperties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.generation = new AtomicLong();
+        this.afterRefresh = CompletableFuture.delayedExecutor(
+                searchProperties.refreshInterval().toMillis(),
+                TimeUnit.MILLISECONDS
+        );
+        // async so a page being read without blocking is shared by the requests asking for it meanwhile
+        this.searches = Caffeine.newBuilder()
+                .maximumSize(searchProperties.maxSize())
+                .expireAfterWrite(searchProperties.ttl())
+                .recordStats()
+                .buildAsync();
+        this.suggestions = Caffeine.newBuilder()
+                .maximumSize(searchProperties.maxSize())
+                .expireAfterWrite(searchProperties.ttl())
+                .recordStats()
+                .build();
+        this.categories = new CategoryCache("categories.by-id", lookupProperties, meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.searches, "categories.search");
+        CaffeineCacheMetrics.monitor(meterRegistry, this.suggestions, "categories.suggest");
+    }
+
+    @Override
+    public Category save(final Category aCategory) {
+        try {
+            return this.delegate.save(aCategory);
+        } finally {
+            this.categories.evict(aCategory.id());
+            invalidateSearches();
+        }
+    }
+
+    @Override
+    public void deleteById(final String anId) {
+        try {
+            this.delegate.deleteById(anId);
+        } finally {
+            this.categories.evict(anId);
+            invalidateSearches();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final String anId) {
+        return this.categories.get(anId, this.delegate::findById);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<String> ids) {
+        final var uniqueIds = new LinkedHashSet<>(ids);
+        final var categories = this.categories.getAll(uniqueIds, missing -> byId(this.delegate.findAllById(missing)));
+
+        return inOrderOf(uniqueIds, categories);
+    }
+
+    @Override
+    public CompletableFuture<List<Category>> findAllByIdAsync(final Collection<String> ids) {
+        final var uniqueIds = new LinkedHashSet<>(ids);
+        return this.categories
+                .getAllAsync(uniqueIds, missing -> this.delegate.findAllByIdAsync(missing).thenApply(CategoryCachedGateway::byId))
+                .thenApply(categories -> inOrderOf(uniqueIds, categories));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        // cursor pages are read once by crawlers and may be bound to a point-in-time
+        if (aQuery.hasCursor()) {
+            return this.delegate.findAll(aQuery);
+        }
+
+        final var key = SearchKey.of(this.generation.get(), aQuery);
+        return this.searches.synchronous().get(key, it -> this.delegate.findAll(aQuery));
+    }
+
+    @Override
+    public CompletableFuture<Pagination<Category>> findAllAsync(final CategorySearchQuery aQuery) {
+        if (aQuery.hasCursor()) {
+            return this.delegate.findAllAsync(aQuery);
+        }
+
+        final var key = SearchKey.of(this.generation.get(), aQuery);
+        return this.searches.get(key, (it, executor) -> this.delegate.findAllAsync(aQuery));
+    }
+
+    @Override
+    public List<Category> suggest(final CategorySuggestionQuery aQuery) {
+        final var key = SuggestionKey.of(this.generation.get(), aQuery);
+        return this.suggestions.get(key, it -> this.delegate.suggest(aQuery));
+    }
+
+    @Override
+    public CategoryBulkResult bulk(final List<CategoryChange> changes) {
+        try {
+            return this.delegate.bulk(changes);
+        } finally {
+            this.categories.evictAll(changes.stream().map(CategoryChange::id).filter(Objects::nonNull).toList());
+            invalidateSearches();
+        }
+    }
+
+    private void invalidateSearches() {
+        invalidateSearchesNow();
+        // the write is only searchable once the index refreshes, pages read until then are dropped again afterwards
+        this.afterRefresh.execute(this::invalidateSearchesNow);
+    }
+
+    private void invalidateSearchesNow() {
+        // a search that started before the write caches under the previous generation and is never read again
+        this.generation.incrementAndGet();
+        this.searches.synchronous().invalidateAll();
+        this.suggestions.invalidateAll();
+    }
+
+    private static Map<String, Category> byId(final List<Category> categories) {
+        return categories.stream()
+                .collect(Collectors.toMap(Category::id, Function.identity(), (one, other) -> one));
+    }
+
+    private static List<Category> inOrderOf(final Collection<String> ids, final Map<String, Category> categories) {
+        return ids.stream()
+                .map(categories::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    record SearchKey(
+            long generation,
+            int page,
+            int perPage,
+            String terms,
+            String sort,
+            String direction,
+            Collection<String> fields
+    ) {
+
+        static SearchKey of(final long generation, final CategorySearchQuery aQuery) {
+            return new SearchKey(
+                    generation,
+                    aQuery.page(),
+                    aQuery.perPage(),
+                    trim(aQuery.terms()),
+                    trim(aQuery.sort()),
+                    trim(aQuery.direction()).toLowerCase(Locale.ROOT),
+                    aQuery.fields()
+            );
+        }
+
+        private static String trim(final String value) {
+            return value == null ? "" : value.trim();
+        }
+    }
+
+    record SuggestionKey(long generation, String prefix, int limit) {
+
+        static SuggestionKey of(final long generation, final CategorySuggestionQuery aQuery) {
+            // the suggest analyzer lowercases, so keystrokes differing only in case share an entry
+            return new SuggestionKey(generation, aQuery.prefix().toLowerCase(Locale.ROOT), aQuery.limit());
+        }
+    }
+}
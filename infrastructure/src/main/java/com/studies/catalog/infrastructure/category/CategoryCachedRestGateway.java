@@ -0,0 +1,53 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryLookupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Primary
+@Component
+@Profile("!dev")
+@ConditionalOnProperty(prefix = "cache.categories", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryCachedRestGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final CategoryVersionCache categories;
+
+    public CategoryCachedRestGateway(
+            final CategoryRestGateway delegate,
+            final CategoryLookupCacheProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.categories = new CategoryVersionCache("categories.upstream", properties, meterRegistry);
+    }
+
+    @Override
+    public Optional<Category> categoryOfId(final String anId) {
+        return this.categories.get(anId, this.delegate::categoryOfId);
+    }
+
+    @Override
+    public Map<String, Category> categoriesOfIds(final Collection<String> ids) {
+        return this.categories.getAll(ids, this.delegate::categoriesOfIds);
+    }
+
+    @Override
+    public Optional<Category> changedCategoryOfId(final String anId, final Long aVersion) {
+        return this.categories.get(anId, aVersion, this.delegate::categoryOfId);
+    }
+
+    @Override
+    public Map<String, Category> changedCategoriesOfIds(final Map<String, Long> versions) {
+        return this.categories.getAll(versions, this.delegate::categoriesOfIds);
+    }
+}
@@ -0,0 +1,156 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.exceptions.InternalErrorException;
+import com.studies.catalog.infrastructure.category.models.CategoryChangeEvent;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryFeedProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Category changes applied to the index by this instance's listeners, kept in one ring buffer shared by every
+ * subscriber: a subscriber sees the changes of the partitions this instance consumes, nothing is read upstream again
+ * for it. Off unless {@code feed.categories.enabled} is set, publishing is then a no-op. A change is stored once; each subscriber only holds its position in the ring and
+ * reads from it as its demand allows, so publishing costs a position check per subscriber rather than a copy into
+ * per-subscriber queues.
+ * <p>
+ * Only changes the index applied are published, those it discarded as stale never reach the feed.
+ * <p>
+ * A subscriber more than {@code maxLag} changes behind is moved to the newest position and told to resync instead of
+ * holding the ring back or growing a backlog.
+ */
+@Component
+public class CategoryChangeFeed {
+
+    private final boolean enabled;
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final int maxLag;
+    private final AtomicLong head;
+    private final ReentrantLock writer;
+    private final Set<Subscription> subscriptions;
+
+    public CategoryChangeFeed(final CategoryFeedProperties properties) {
+        if (Integer.bitCount(properties.capacity()) != 1) {
+            throw new IllegalArgumentException("Feed capacity must be a power of two");
+        }
+        if (properties.maxLag() <= 0 || properties.maxLag() >= properties.capacity()) {
+            throw new IllegalArgumentException("Feed max lag must be positive and lower than its capacity");
+        }
+
+        this.enabled = properties.enabled();
+        this.entries = new AtomicReferenceArray<>(properties.capacity());
+        this.mask = properties.capacity() - 1;
+        this.maxLag = properties.maxLag();
+        this.head = new AtomicLong();
+        this.writer = new ReentrantLock();
+        this.subscriptions = ConcurrentHashMap.newKeySet();
+    }
+
+    public void publish(final List<CategoryChange> changes) {
+        if (!this.enabled || changes.isEmpty()) {
+            return;
+        }
+
+        this.writer.lock();
+        try {
+            var sequence = this.head.get();
+            for (final var change : changes) {
+                this.entries.set((int) sequence & this.mask, new Entry(sequence, change));
+                sequence++;
+            }
+            this.head.set(sequence);
+        } finally {
+            this.writer.unlock();
+        }
+
+        this.subscriptions.forEach(Subscription::drain);
+    }
+
+    public Flux<CategoryChangeEvent> subscribe(final CategoryFeedFilter filter) {
+        if (!this.enabled) {
+            return Flux.error(InternalErrorException.with("Category feed is disabled", null));
+        }
+
+        return Flux.create(sink -> {
+            final var subscription = new Subscription(sink, filter, this.head.get());
+            this.subscriptions.add(subscription);
+            sink.onRequest(n -> subscription.drain());
+            sink.onDispose(() -> this.subscriptions.remove(subscription));
+        });
+    }
+
+    int subscribers() {
+        return this.subscriptions.size();
+    }
+
+    private record Entry(long sequence, CategoryChange change, CategoryChangeEvent upsert, CategoryChangeEvent delete) {
+
+        Entry(final long sequence, final CategoryChange change) {
+            this(
+                    sequence,
+                    change,
+                    change.isDelete() ? null : CategoryChangeEvent.upsert(change.category()),
+                    CategoryChangeEvent.delete(change.id())
+            );
+        }
+    }
+
+    private final class Subscription {
+
+        private final FluxSink<CategoryChangeEvent> sink;
+        private final CategoryFeedFilter filter;
+        private final AtomicInteger pending;
+        private long cursor;
+
+        private Subscription(final FluxSink<CategoryChangeEvent> sink, final CategoryFeedFilter filter, final long cursor) {
+            this.sink = sink;
+            this.filter = filter;
+            this.pending = new AtomicInteger();
+            this.cursor = cursor;
+        }
+
+        /**
+         * Called by the publisher and by the subscriber's requests; whoever gets in first drains for both.
+         */
+        void drain() {
+            if (this.pending.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                var requested = this.sink.requestedFromDownstream();
+                while (requested > 0) {
+                    final var head = CategoryChangeFeed.this.head.get();
+                    if (this.cursor == head) {
+                        break;
+                    }
+
+                    final var entry = CategoryChangeFeed.this.entries.get((int) this.cursor & mask);
+                    if (head - this.cursor > maxLag || entry == null || entry.sequence() != this.cursor) {
+                        this.cursor = head;
+                        this.sink.next(CategoryChangeEvent.resync());
+                        requested--;
+                        continue;
+                    }
+
+                    this.cursor++;
+                    final var type = this.filter.typeOf(entry.change());
+                    if (type != null) {
+                        this.sink.next(type == CategoryChangeEvent.Type.UPSERT ? entry.upsert() : entry.delete());
+                        requested--;
+                    }
+                }
+            } while (this.pending.decrementAndGet() != 0);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.exceptions.DomainException;
+import com.studies.catalog.domain.validation.Error;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Opaque continuation token: the sort values of the last hit (sort field plus the id tiebreaker), once a cursor is
+ * followed the point-in-time the following pages are read from, and a fingerprint of the terms, sort and direction
+ * it was issued for. The sort values only mean something for that search, so a cursor sent with any other is refused.
+ */
+public record CategoryCursor(
+        @JsonProperty("s") List<Object> searchAfter,
+        @JsonProperty("p") String pointInTimeId,
+        @JsonProperty("q") String search
+) {
+
+    private static final int FINGERPRINT_BYTES = 12;
+
+    public static CategoryCursor of(
+            final List<Object> searchAfter,
+            final String pointInTimeId,
+            final CategorySearchQuery aQuery
+    ) {
+        return new CategoryCursor(searchAfter, pointInTimeId, fingerprint(aQuery));
+    }
+
+    public static CategoryCursor decode(final CategorySearchQuery aQuery) {
+        final CategoryCursor cursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(aQuery.cursor()), StandardCharsets.UTF_8);
+            cursor = Json.readValue(json, CategoryCursor.class);
+        } catch (final RuntimeException ex) {
+            throw invalidCursor();
+        }
+
+        if (cursor == null || cursor.searchAfter() == null || cursor.searchAfter().isEmpty()) {
+            throw invalidCursor();
+        }
+
+        if (!fingerprint(aQuery).equals(cursor.search())) {
+            throw DomainException.with(new Error("'cursor' belongs to a different search"));
+        }
+
+        return cursor;
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String fingerprint(final CategorySearchQuery aQuery) {
+        final var search = String.join("\u0000",
+                Objects.requireNonNullElse(aQuery.terms(), "").trim(),
+                Objects.requireNonNullElse(aQuery.sort(), "").trim(),
+                Objects.requireNonNullElse(aQuery.direction(), "").trim().toLowerCase(Locale.ROOT)
+        );
+
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(search.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, FINGERPRINT_BYTES));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
@@ -1,40 +1,90 @@
 package com.studies.catalog.infrastructure.category;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
 import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryBulkResult;
+import com.studies.catalog.domain.category.CategoryChange;
 import com.studies.catalog.domain.category.CategoryGateway;
 import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+import com.studies.catalog.domain.exceptions.InternalErrorException;
 import com.studies.catalog.domain.pagination.Pagination;
 import com.studies.catalog.infrastructure.category.persistence.CategoryDocument;
 import com.studies.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
-import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-
-import static org.springframework.data.elasticsearch.core.query.Criteria.where;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Component
 public class CategoryElasticsearchGateway implements CategoryGateway {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryElasticsearchGateway.class);
+
     private static final String NAME_PROP = "name";
     private static final String KEYWORD = ".keyword";
+    private static final String ID_PROP = "id";
+    private static final Duration POINT_IN_TIME_KEEP_ALIVE = Duration.ofMinutes(1);
+    private static final Map<String, String> SOURCE_FIELDS = Map.of(
+            "id", "id",
+            "name", "name",
+            "description", "description",
+            "active", "active",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at",
+            "deletedAt", "deleted_at"
+    );
+    private static final String VERSION_CONFLICT = "version_conflict_engine_exception";
+    // search_as_you_type indexes shingles next to the field, bool_prefix matches the last term as a prefix on them
+    private static final List<String> SUGGEST_FIELDS = List.of("name.suggest", "name.suggest._2gram", "name.suggest._3gram");
+    private static final String[] SUGGEST_SOURCE = {"id", "name"};
+    // analyzed fields and their Portuguese stemmed variants, a match on the name weighs more than on the description
+    private static final List<String> SEARCH_FIELDS = List.of("name^3", "name.pt^2", "description", "description.pt");
+    private static final Sort RELEVANCE_SORT = Sort.by(Sort.Order.desc("_score"), Sort.Order.asc(ID_PROP));
 
     private final CategoryRepository categoryRepository;
-    private final SearchOperations searchOperations;
+    private final ElasticsearchOperations searchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final CategoryReactiveElasticsearchGateway reactiveGateway;
 
     public CategoryElasticsearchGateway(
             final CategoryRepository categoryRepository,
-            final SearchOperations searchOperations
+            final ElasticsearchOperations searchOperations,
+            final ElasticsearchClient elasticsearchClient,
+            final CategoryReactiveElasticsearchGateway reactiveGateway
     ) {
         this.categoryRepository = Objects.requireNonNull(categoryRepository);
         this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.elasticsearchClient = Objects.requireNonNull(elasticsearchClient);
+        this.reactiveGateway = Objects.requireNonNull(reactiveGateway);
     }
 
     @Override
@@ -54,23 +104,43 @@ public class CategoryElasticsearchGateway implements CategoryGateway {
                 .map(CategoryDocument::toCategory);
     }
 
+    @Override
+    public List<Category> findAllById(final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // a single _mget, ids asked twice are fetched once
+        final var query = NativeQuery.builder()
+                .withIds(new LinkedHashSet<>(ids))
+                .build();
+
+        return this.searchOperations.multiGet(query, CategoryDocument.class).stream()
+                .filter(MultiGetItem::hasItem)
+                .map(item -> item.getItem().toCategory())
+                .toList();
+    }
+
+    @Override
+    public CompletableFuture<List<Category>> findAllByIdAsync(final Collection<String> ids) {
+        return this.reactiveGateway.findAllById(ids).toFuture();
+    }
+
     @Override
     public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
-        final var terms = aQuery.terms();
         final var currentPage = aQuery.page();
         final var perPage = aQuery.perPage();
+        final var query = searchQuery(aQuery);
 
-        final var sort = Sort.by(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
-        final var page = PageRequest.of(currentPage, perPage, sort);
+        final String pointInTimeId;
+        if (aQuery.hasCursor()) {
+            final var cursor = CategoryCursor.decode(aQuery);
+            pointInTimeId = cursor.pointInTimeId() != null ? cursor.pointInTimeId() : openPointInTime();
 
-        final Query query;
-        if (StringUtils.isNotEmpty(terms)) {
-            final var criteria = where("name").contains(terms)
-                    .or(where("description").contains(terms));
-
-            query = new CriteriaQuery(criteria, page);
+            query.setSearchAfter(cursor.searchAfter());
+            query.setPointInTime(new Query.PointInTime(pointInTimeId, POINT_IN_TIME_KEEP_ALIVE));
         } else {
-            query = Query.findAll().setPageable(page);
+            pointInTimeId = null;
         }
 
         final var res = this.searchOperations.search(query, CategoryDocument.class);
@@ -82,10 +152,206 @@ public class CategoryElasticsearchGateway implements CategoryGateway {
                 .map(CategoryDocument::toCategory)
                 .toList();
 
-        return new Pagination<>(currentPage, perPage, total, categories);
+        return new Pagination<>(currentPage, perPage, total, nextCursor(res, aQuery, pointInTimeId), categories);
+    }
+
+    @Override
+    public CompletableFuture<Pagination<Category>> findAllAsync(final CategorySearchQuery aQuery) {
+        // following a cursor opens or closes its point-in-time along the way, those pages stay on this client
+        if (aQuery.hasCursor()) {
+            return CompletableFuture.completedFuture(findAll(aQuery));
+        }
+        return this.reactiveGateway.findAll(aQuery).toFuture();
+    }
+
+    @Override
+    public List<Category> suggest(final CategorySuggestionQuery aQuery) {
+        final var query = NativeQuery.builder()
+                .withQuery(q -> q.multiMatch(m -> m
+                        .query(aQuery.prefix())
+                        .type(TextQueryType.BoolPrefix)
+                        .operator(Operator.And)
+                        .fields(SUGGEST_FIELDS)))
+                .withSort(Sort.by(Sort.Order.desc("_score"), Sort.Order.asc(NAME_PROP.concat(KEYWORD))))
+                .withSourceFilter(new FetchSourceFilter(SUGGEST_SOURCE, null))
+                .withPageable(PageRequest.of(0, aQuery.limit()))
+                .withTrackTotalHits(false)
+                .build();
+
+        return this.searchOperations.search(query, CategoryDocument.class).stream()
+                .map(SearchHit::getContent)
+                .map(CategoryDocument::toCategory)
+                .toList();
+    }
+
+    @Override
+    public CategoryBulkResult bulk(final List<CategoryChange> changes) {
+        if (changes.isEmpty()) {
+            return CategoryBulkResult.empty();
+        }
+
+        final var index = this.searchOperations.getIndexCoordinatesFor(CategoryDocument.class).getIndexName();
+        final var operations = changes.stream()
+                .map(change -> toBulkOperation(index, change))
+                .toList();
+
+        final var res = execute(BulkRequest.of(b -> b.operations(operations)));
+
+        if (!res.errors()) {
+            return CategoryBulkResult.empty();
+        }
+
+        final var failed = new ArrayList<CategoryChange>();
+        final var discarded = new ArrayList<CategoryChange>();
+        final var items = res.items();
+
+        for (int i = 0; i < items.size(); i++) {
+            final var error = items.get(i).error();
+            if (error != null && VERSION_CONFLICT.equals(error.type())) {
+                LOG.debug("Stale bulk operation discarded for category {} [version:{}]", changes.get(i).id(), changes.get(i).version());
+                discarded.add(changes.get(i));
+            } else if (error != null) {
+                LOG.warn("Bulk operation failed for category {}: {}", changes.get(i).id(), error.reason());
+                failed.add(changes.get(i));
+            }
+        }
+
+        return new CategoryBulkResult(failed, discarded);
+    }
+
+    /**
+     * One page of a search, sorted and projected as asked. Cursor pages start at the first hit, the caller sets
+     * where they continue from.
+     */
+    static Query searchQuery(final CategorySearchQuery aQuery) {
+        final var terms = aQuery.terms();
+        final var query = StringUtils.isNotEmpty(terms) ? searchQuery(terms) : Query.findAll();
+
+        if (aQuery.hasProjection()) {
+            query.addSourceFilter(new FetchSourceFilter(sourceFieldsOf(aQuery.fields()), null));
+        }
+
+        final var sort = aQuery.sortsByRelevance()
+                ? RELEVANCE_SORT
+                : buildSort(aQuery.sort(), Sort.Direction.fromString(aQuery.direction()));
+
+        query.setPageable(PageRequest.of(aQuery.hasCursor() ? 0 : aQuery.page(), aQuery.perPage(), sort));
+        return query;
+    }
+
+    /**
+     * Every term has to match a name or description token, the last one as a prefix so partial words still find
+     * results while typing. Terms are looked up in the index instead of scanning it with wildcards.
+     */
+    static Query searchQuery(final String terms) {
+        return NativeQuery.builder()
+                .withQuery(q -> q.multiMatch(m -> m
+                        .query(terms)
+                        .type(TextQueryType.BoolPrefix)
+                        .operator(Operator.And)
+                        .fields(SEARCH_FIELDS)))
+                .build();
+    }
+
+    public long count() {
+        return this.searchOperations.count(Query.findAll(), CategoryDocument.class);
+    }
+
+    public void scan(final int batchSize, final Consumer<List<CategoryChange>> consumer) {
+        final var query = Query.findAll();
+        query.setPageable(PageRequest.of(0, batchSize));
+
+        try (final var hits = this.searchOperations.searchForStream(query, CategoryDocument.class)) {
+            final var batch = new ArrayList<CategoryChange>(batchSize);
+            while (hits.hasNext()) {
+                final var document = hits.next().getContent();
+                batch.add(CategoryChange.save(document.toCategory(), document.sourceVersion()));
+
+                if (batch.size() == batchSize) {
+                    consumer.accept(List.copyOf(batch));
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                consumer.accept(List.copyOf(batch));
+            }
+        }
+    }
+
+    private BulkOperation toBulkOperation(final String index, final CategoryChange change) {
+        if (change.isDelete()) {
+            return BulkOperation.of(op -> op.delete(d -> {
+                d.index(index).id(change.id());
+                if (change.isVersioned()) {
+                    d.version(change.version()).versionType(VersionType.ExternalGte);
+                }
+                return d;
+            }));
+        }
+
+        final var document = this.searchOperations.getElasticsearchConverter()
+                .mapObject(CategoryDocument.from(change.category(), change.version()));
+
+        return BulkOperation.of(op -> op.index(i -> {
+            i.index(index).id(change.id()).document(document);
+            if (change.isVersioned()) {
+                i.version(change.version()).versionType(VersionType.ExternalGte);
+            }
+            return i;
+        }));
+    }
+
+    private BulkResponse execute(final BulkRequest request) {
+        try {
+            return this.elasticsearchClient.bulk(request);
+        } catch (final IOException ex) {
+            throw InternalErrorException.with("Failed to execute bulk request on Elasticsearch", ex);
+        }
+    }
+
+    private static String[] sourceFieldsOf(final Set<String> fields) {
+        final var sourceFields = new LinkedHashSet<String>();
+        sourceFields.add(ID_PROP);
+        fields.stream()
+                .map(SOURCE_FIELDS::get)
+                .filter(Objects::nonNull)
+                .forEach(sourceFields::add);
+        return sourceFields.toArray(String[]::new);
+    }
+
+    private String openPointInTime() {
+        final var index = this.searchOperations.getIndexCoordinatesFor(CategoryDocument.class);
+        return this.searchOperations.openPointInTime(index, POINT_IN_TIME_KEEP_ALIVE);
+    }
+
+    private String nextCursor(
+            final SearchHits<CategoryDocument> res,
+            final CategorySearchQuery aQuery,
+            final String pointInTimeId
+    ) {
+        final var pointInTime = res.getPointInTimeId() != null ? res.getPointInTimeId() : pointInTimeId;
+
+        if (res.getSearchHits().size() < aQuery.perPage()) {
+            if (pointInTime != null) {
+                this.searchOperations.closePointInTime(pointInTime);
+            }
+            return null;
+        }
+
+        final var last = res.getSearchHit(res.getSearchHits().size() - 1);
+        return CategoryCursor.of(last.getSortValues(), pointInTime, aQuery).encode();
+    }
+
+    private static Sort buildSort(final String sort, final Sort.Direction direction) {
+        if (ID_PROP.equals(sort))
+            return Sort.by(direction, ID_PROP);
+
+        // id breaks ties so the last hit of a page is a stable search_after position
+        return Sort.by(direction, buildSortField(sort)).and(Sort.by(direction, ID_PROP));
     }
 
-    private String buildSort(final String sort) {
+    private static String buildSortField(final String sort) {
         if (NAME_PROP.equals(sort))
             return sort.concat(KEYWORD);
 
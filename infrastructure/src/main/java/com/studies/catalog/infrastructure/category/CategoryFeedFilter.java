@@ -0,0 +1,31 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.infrastructure.category.models.CategoryChangeEvent.Type;
+
+import java.util.Set;
+
+/**
+ * What one subscriber of the {@link CategoryChangeFeed} wants to see: every category or only some ids, and optionally
+ * only active ones. For an active-only subscriber a category turning inactive is gone, so it is streamed as a delete.
+ */
+public record CategoryFeedFilter(Set<String> ids, boolean activeOnly) {
+
+    public CategoryFeedFilter {
+        ids = ids != null ? Set.copyOf(ids) : Set.of();
+    }
+
+    /**
+     * The kind of event this subscriber gets for a change, null when the change is not for it.
+     */
+    Type typeOf(final CategoryChange change) {
+        if (!ids.isEmpty() && !ids.contains(change.id())) {
+            return null;
+        }
+
+        if (change.isDelete() || (activeOnly && !change.category().active())) {
+            return Type.DELETE;
+        }
+        return Type.UPSERT;
+    }
+}
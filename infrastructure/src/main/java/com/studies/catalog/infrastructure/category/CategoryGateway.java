@@ -2,9 +2,30 @@ package com.studies.catalog.infrastructure.category;
 
 import com.studies.catalog.domain.category.Category;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CategoryGateway {
 
     Optional<Category> categoryOfId(String anId);
+
+    default Map<String, Category> categoriesOfIds(final Collection<String> ids) {
+        final var categories = new HashMap<String, Category>(ids.size());
+        ids.forEach(anId -> categoryOfId(anId).ifPresent(category -> categories.put(anId, category)));
+        return categories;
+    }
+
+    /**
+     * Same as {@link #categoryOfId(String)} for a category a change event was received for: an answer read for an
+     * older change will not do. {@code aVersion} is the {@code source.ts_ms} of the change, null when it has none.
+     */
+    default Optional<Category> changedCategoryOfId(final String anId, final Long aVersion) {
+        return categoryOfId(anId);
+    }
+
+    default Map<String, Category> changedCategoriesOfIds(final Map<String, Long> versions) {
+        return categoriesOfIds(versions.keySet());
+    }
 }
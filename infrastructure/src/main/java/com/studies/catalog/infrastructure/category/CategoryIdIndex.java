@@ -0,0 +1,232 @@
+package com.studies.catalog.infrastructure.category;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Open-addressing map from category id to a non-negative int. Ids produced by {@code IdUtils.uniqueId()} are 32
+ * lowercase hex characters and are stored as two longs, so lookups neither hash nor keep the {@link String}; any other
+ * id falls back to a regular {@link HashMap}. A {@link #copy()} shares the probe table chunk by chunk and can be
+ * written without changing the original. Not thread-safe.
+ */
+public final class CategoryIdIndex {
+
+    public static final int ABSENT = -1;
+
+    private static final int HEX_ID_LENGTH = 32;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final byte[] HEX_DIGITS = new byte[128];
+
+    static {
+        Arrays.fill(HEX_DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_DIGITS['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_DIGITS['a' + i] = (byte) (10 + i);
+        }
+    }
+
+    private LongChunks highs;
+    private LongChunks lows;
+    private IntChunks values;
+    private int capacity;
+    private int size;
+    private int resizeAt;
+
+    private final Map<String, Integer> foreign;
+
+    public CategoryIdIndex() {
+        this(16);
+    }
+
+    public CategoryIdIndex(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+        this.foreign = new HashMap<>();
+    }
+
+    private CategoryIdIndex(final CategoryIdIndex source) {
+        this.highs = source.highs.copy();
+        this.lows = source.lows.copy();
+        this.values = source.values.copy();
+        this.capacity = source.capacity;
+        this.size = source.size;
+        this.resizeAt = source.resizeAt;
+        this.foreign = new HashMap<>(source.foreign);
+    }
+
+    public CategoryIdIndex copy() {
+        return new CategoryIdIndex(this);
+    }
+
+    public int get(final String anId) {
+        if (!isHexId(anId)) {
+            return this.foreign.getOrDefault(anId, ABSENT);
+        }
+
+        final var high = parseHex(anId, 0);
+        final var low = parseHex(anId, 16);
+        final var mask = this.capacity - 1;
+        for (int index = indexOf(high, low, mask); this.values.get(index) != ABSENT; index = (index + 1) & mask) {
+            if (this.highs.get(index) == high && this.lows.get(index) == low) {
+                return this.values.get(index);
+            }
+        }
+        return ABSENT;
+    }
+
+    public boolean contains(final String anId) {
+        return get(anId) != ABSENT;
+    }
+
+    public int put(final String anId, final int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Values must not be negative");
+        }
+
+        if (!isHexId(anId)) {
+            final var previous = this.foreign.put(anId, value);
+            return previous != null ? previous : ABSENT;
+        }
+
+        final var high = parseHex(anId, 0);
+        final var low = parseHex(anId, 16);
+        final var mask = this.capacity - 1;
+        var index = indexOf(high, low, mask);
+        for (; this.values.get(index) != ABSENT; index = (index + 1) & mask) {
+            if (this.highs.get(index) == high && this.lows.get(index) == low) {
+                final var previous = this.values.get(index);
+                this.values.set(index, value);
+                return previous;
+            }
+        }
+
+        this.highs.set(index, high);
+        this.lows.set(index, low);
+        this.values.set(index, value);
+
+        if (++this.size > this.resizeAt) {
+            resize();
+        }
+        return ABSENT;
+    }
+
+    public int remove(final String anId) {
+        if (!isHexId(anId)) {
+            final var previous = this.foreign.remove(anId);
+            return previous != null ? previous : ABSENT;
+        }
+
+        final var high = parseHex(anId, 0);
+        final var low = parseHex(anId, 16);
+        final var mask = this.capacity - 1;
+        for (int index = indexOf(high, low, mask); this.values.get(index) != ABSENT; index = (index + 1) & mask) {
+            if (this.highs.get(index) == high && this.lows.get(index) == low) {
+                final var previous = this.values.get(index);
+                shiftBack(index, mask);
+                this.size--;
+                return previous;
+            }
+        }
+        return ABSENT;
+    }
+
+    public int size() {
+        return this.size + this.foreign.size();
+    }
+
+    public void clear() {
+        allocate(this.capacity);
+        this.size = 0;
+        this.foreign.clear();
+    }
+
+    private void shiftBack(final int removed, final int mask) {
+        // backward-shift deletion keeps probe chains intact without tombstones
+        var gap = removed;
+        var index = (removed + 1) & mask;
+
+        while (this.values.get(index) != ABSENT) {
+            final var home = indexOf(this.highs.get(index), this.lows.get(index), mask);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                this.highs.set(gap, this.highs.get(index));
+                this.lows.set(gap, this.lows.get(index));
+                this.values.set(gap, this.values.get(index));
+                gap = index;
+            }
+            index = (index + 1) & mask;
+        }
+
+        this.values.set(gap, ABSENT);
+    }
+
+    private void resize() {
+        final var oldHighs = this.highs;
+        final var oldLows = this.lows;
+        final var oldValues = this.values;
+        final var oldCapacity = this.capacity;
+
+        allocate(oldCapacity * 2);
+        final var mask = this.capacity - 1;
+
+        for (int i = 0; i < oldCapacity; i++) {
+            final var value = oldValues.get(i);
+            if (value != ABSENT) {
+                var index = indexOf(oldHighs.get(i), oldLows.get(i), mask);
+                while (this.values.get(index) != ABSENT) {
+                    index = (index + 1) & mask;
+                }
+                this.highs.set(index, oldHighs.get(i));
+                this.lows.set(index, oldLows.get(i));
+                this.values.set(index, value);
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        this.highs = new LongChunks(capacity, 0);
+        this.lows = new LongChunks(capacity, 0);
+        this.values = new IntChunks(capacity, ABSENT);
+        this.capacity = capacity;
+        this.resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    static boolean isHexId(final String anId) {
+        if (anId == null || anId.length() != HEX_ID_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < HEX_ID_LENGTH; i++) {
+            final var c = anId.charAt(i);
+            if (c >= 128 || HEX_DIGITS[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads 16 hex characters starting at {@code from}, the caller checked them with {@link #isHexId(String)}.
+     */
+    static long parseHex(final String anId, final int from) {
+        var value = 0L;
+        for (int i = from; i < from + 16; i++) {
+            value = value << 4 | HEX_DIGITS[anId.charAt(i)];
+        }
+        return value;
+    }
+
+    private static int indexOf(final long high, final long low, final int mask) {
+        var hash = high * 0x9E3779B97F4A7C15L ^ low;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final var needed = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        return Math.max(16, Integer.highestOneBit(needed - 1) << 1);
+    }
+}
@@ -1,43 +1,581 @@
 package com.studies.catalog.infrastructure.category;
 
 import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryBulkResult;
+import com.studies.catalog.domain.category.CategoryChange;
 import com.studies.catalog.domain.category.CategoryGateway;
 import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
 import com.studies.catalog.domain.pagination.Pagination;
 //import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+/**
+ * Categories held in memory as immutable versions. Reads take the current version from a volatile field and never
+ * lock; each write call, a whole {@link #bulk(List)} batch included, builds one new version that shares every
+ * untouched chunk of the previous one and publishes it at once.
+ */
 //@Component
 public class CategoryInMemoryGateway implements CategoryGateway {
 
-    private final ConcurrentHashMap<String, Category> db;
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int[] NO_SLOTS = new int[0];
+
+    private static final String DEFAULT_SORT = "name";
+
+    private final ReentrantLock writer;
+    private final Map<String, Tombstone> tombstones;
+    private volatile Version current;
 
     public CategoryInMemoryGateway() {
-        this.db = new ConcurrentHashMap<>();
+        this.writer = new ReentrantLock();
+        this.tombstones = new LinkedHashMap<>();
+        this.current = new Version(null);
     }
 
     @Override
     public Category save(Category aCategory) {
-        this.db.put(aCategory.id(), aCategory);
+        write(version -> apply(version, CategoryChange.save(aCategory)));
         return aCategory;
     }
 
     @Override
     public void deleteById(String anId) {
-        this.db.remove(anId);
+        write(version -> apply(version, CategoryChange.delete(anId)));
     }
 
     @Override
     public Optional<Category> findById(String anId) {
-        return Optional.ofNullable(this.db.get(anId));
+        final var version = this.current;
+        final var slot = version.slots.get(anId);
+        return slot != CategoryIdIndex.ABSENT ? Optional.of(version.store.get(slot)) : Optional.empty();
+    }
+
+    @Override
+    public List<Category> findAllById(Collection<String> ids) {
+        final var version = this.current;
+        final var categories = new ArrayList<Category>(ids.size());
+        for (final var anId : ids) {
+            final var slot = version.slots.get(anId);
+            if (slot != CategoryIdIndex.ABSENT) {
+                categories.add(version.store.get(slot));
+            }
+        }
+        return categories;
     }
 
     @Override
     public Pagination<Category> findAll(CategorySearchQuery aQuery) {
-        final var values = this.db.values();
-        return new Pagination<>(aQuery.page(), aQuery.perPage(), values.size(), new ArrayList<>(values));
+        final var version = this.current;
+        final var index = version.sorted.getOrDefault(aQuery.sort(), version.sorted.get(DEFAULT_SORT));
+        final var descending = "desc".equalsIgnoreCase(aQuery.direction());
+        final var from = Math.max(aQuery.page(), 0) * aQuery.perPage();
+        final var terms = tokenize(aQuery.terms());
+        final var data = new ArrayList<Category>();
+
+        if (terms.isEmpty()) {
+            for (int i = from; i < index.size() && data.size() < aQuery.perPage(); i++) {
+                data.add(version.store.get(index.get(i, descending)));
+            }
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), index.size(), data);
+        }
+
+        // walks the index in the requested order and keeps the matches of the requested page
+        final var matches = matching(version, terms);
+        var position = 0;
+        for (int i = 0; i < index.size() && data.size() < aQuery.perPage(); i++) {
+            final var slot = index.get(i, descending);
+            if (matches.get(slot) && position++ >= from) {
+                data.add(version.store.get(slot));
+            }
+        }
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), matches.cardinality(), data);
+    }
+
+    @Override
+    public List<Category> suggest(CategorySuggestionQuery aQuery) {
+        final var terms = termsOf(aQuery.prefix());
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        final var version = this.current;
+        final var prefix = terms.get(terms.size() - 1);
+        final var suggestions = new ArrayList<Category>(aQuery.limit());
+
+        if (terms.size() == 1) {
+            for (final var slot : version.names.top(prefix)) {
+                if (suggestions.size() == aQuery.limit()) {
+                    break;
+                }
+                suggestions.add(version.store.get(slot));
+            }
+            return suggestions;
+        }
+
+        // like a bool_prefix query: the leading terms are whole tokens, only the last one is a prefix
+        final var leading = Set.copyOf(terms.subList(0, terms.size() - 1));
+        int[] candidates = null;
+        for (final var term : leading) {
+            final var slots = version.names.slots(term);
+            if (candidates == null || slots.length < candidates.length) {
+                candidates = slots;
+            }
+        }
+
+        for (final var slot : candidates) {
+            if (suggestions.size() == aQuery.limit()) {
+                break;
+            }
+            final var tokens = tokenize(version.store.name(slot));
+            if (tokens.containsAll(leading) && tokens.stream().anyMatch(token -> token.startsWith(prefix))) {
+                suggestions.add(version.store.get(slot));
+            }
+        }
+        return suggestions;
+    }
+
+    @Override
+    public CategoryBulkResult bulk(List<CategoryChange> changes) {
+        final var discarded = new ArrayList<CategoryChange>();
+        write(version -> changes.forEach(change -> {
+            // same rule as the index: a versioned change older than what is held is discarded
+            final var known = knownVersion(version, change.id());
+            if (change.isVersioned() && known != null && change.version() < known) {
+                discarded.add(change);
+                return;
+            }
+            apply(version, change);
+        }));
+        return new CategoryBulkResult(List.of(), discarded);
+    }
+
+    /**
+     * Loads a snapshot read from the index. Entries already written by {@link #bulk(List)} win unless the snapshot
+     * carries a newer version, so changes consumed while the snapshot is read are never overwritten by older copies.
+     */
+    public void load(List<CategoryChange> changes) {
+        write(version -> changes.forEach(change -> {
+            final var known = knownVersion(version, change.id());
+            if (isKnown(version, change.id()) && !(change.isVersioned() && known != null && change.version() > known)) {
+                return;
+            }
+            apply(version, change);
+        }));
+    }
+
+    public List<CategoryChange> export() {
+        final var store = this.current.store;
+        final var changes = new ArrayList<CategoryChange>(store.count());
+        store.forEachSlot(slot -> changes.add(CategoryChange.save(store.get(slot), store.version(slot))));
+        return changes;
+    }
+
+    public void forgetDeletes() {
+        this.writer.lock();
+        try {
+            this.tombstones.clear();
+        } finally {
+            this.writer.unlock();
+        }
+    }
+
+    /**
+     * Drops the deletes applied more than {@code retention} ago, as the index does after {@code gc_deletes}: a change
+     * older than one of them is not expected any more, and each delete would otherwise be held for good.
+     */
+    public void forgetDeletesOlderThan(final Duration retention) {
+        final var cutoff = System.nanoTime() - retention.toNanos();
+        this.writer.lock();
+        try {
+            // held in the order they were applied, the oldest come first
+            final var iterator = this.tombstones.values().iterator();
+            while (iterator.hasNext() && iterator.next().deletedAt() - cutoff <= 0) {
+                iterator.remove();
+            }
+        } finally {
+            this.writer.unlock();
+        }
+    }
+
+    public long count() {
+        return this.current.store.count();
+    }
+
+    int tombstones() {
+        this.writer.lock();
+        try {
+            return this.tombstones.size();
+        } finally {
+            this.writer.unlock();
+        }
+    }
+
+    private static BitSet matching(final Version version, final Set<String> terms) {
+        BitSet matches = null;
+
+        for (final var term : terms) {
+            // every query token has to start some token of the name or the description
+            final var termMatches = new BitSet(version.store.capacity());
+            version.tokens.forEachStartingWith(term, slots -> {
+                for (final var slot : slots) {
+                    termMatches.set(slot);
+                }
+            });
+
+            if (matches == null) {
+                matches = termMatches;
+            } else {
+                matches.and(termMatches);
+            }
+
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+
+        return matches;
+    }
+
+    private void apply(final Version version, final CategoryChange change) {
+        version.remove(change.id());
+
+        // removed first so a repeated delete moves to the end, where the newest ones are
+        this.tombstones.remove(change.id());
+        if (change.isDelete()) {
+            this.tombstones.put(change.id(), new Tombstone(change.version(), System.nanoTime()));
+        } else {
+            version.put(change.category(), change.version());
+        }
+    }
+
+    private boolean isKnown(final Version version, final String anId) {
+        return version.slots.contains(anId) || this.tombstones.containsKey(anId);
+    }
+
+    private Long knownVersion(final Version version, final String anId) {
+        final var slot = version.slots.get(anId);
+        if (slot != CategoryIdIndex.ABSENT) {
+            return version.store.version(slot);
+        }
+        final var tombstone = this.tombstones.get(anId);
+        return tombstone != null ? tombstone.version() : null;
+    }
+
+    private void write(final Consumer<Version> action) {
+        this.writer.lock();
+        try {
+            final var next = new Version(this.current);
+            action.accept(next);
+            this.current = next;
+        } finally {
+            this.writer.unlock();
+        }
+    }
+
+    private static List<String> termsOf(final String text) {
+        final var terms = new ArrayList<String>();
+        for (final var term : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static Set<String> tokensOf(final String name, final String description) {
+        final var tokens = tokenize(name);
+        tokens.addAll(tokenize(description));
+        return tokens;
+    }
+
+    private static Set<String> tokenize(final String text) {
+        final var tokens = new HashSet<String>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (final var token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record Tombstone(Long version, long deletedAt) {
+    }
+
+    /**
+     * One published state of the gateway. It is only written while it is being built by {@link #write(Consumer)}.
+     */
+    private static final class Version {
+
+        private final CategoryStore store;
+        private final CategoryIdIndex slots;
+        private final Map<String, SlotIndex> sorted;
+        private final SlotComparator byName;
+        private final TokenIndex tokens;
+        private CategoryNameTrie names;
+
+        private Version(final Version previous) {
+            this.store = previous != null ? previous.store.copy() : new CategoryStore();
+            this.slots = previous != null ? previous.slots.copy() : new CategoryIdIndex();
+            this.tokens = previous != null ? previous.tokens.copy() : new TokenIndex();
+            this.names = previous != null ? previous.names : new CategoryNameTrie(CategorySuggestionQuery.MAX_LIMIT);
+
+            // the comparators read the columns of this version's store
+            final var comparators = Map.<String, SlotComparator>of(
+                    "id", this.store::compareIds,
+                    "name", thenById(this.store, this.store::compareNames),
+                    "created_at", thenById(this.store, this.store::compareCreatedAt),
+                    "updated_at", thenById(this.store, this.store::compareUpdatedAt)
+            );
+            final var indices = new HashMap<String, SlotIndex>();
+            comparators.forEach((sort, comparator) -> indices.put(sort, previous != null
+                    ? previous.sorted.get(sort).copy(comparator)
+                    : new SlotIndex(comparator)));
+            this.sorted = Map.copyOf(indices);
+            this.byName = comparators.get("name");
+        }
+
+        private void put(final Category aCategory, final Long version) {
+            final var slot = this.store.add(aCategory, version);
+            this.slots.put(aCategory.id(), slot);
+            this.sorted.values().forEach(index -> index.insert(slot));
+            tokensOf(aCategory.name(), aCategory.description()).forEach(token -> this.tokens.add(token, slot));
+            tokenize(aCategory.name()).forEach(token -> this.names = this.names.add(token, slot, this.byName));
+        }
+
+        private void remove(final String anId) {
+            final var slot = this.slots.remove(anId);
+            if (slot == CategoryIdIndex.ABSENT) {
+                return;
+            }
+
+            // the indices compare through the store columns, the slot is only released once it left all of them
+            this.sorted.values().forEach(index -> index.delete(slot));
+            tokensOf(this.store.name(slot), this.store.description(slot)).forEach(token -> this.tokens.remove(token, slot));
+            tokenize(this.store.name(slot)).forEach(token -> this.names = this.names.remove(token, slot, this.byName));
+            this.store.remove(slot);
+        }
+
+        private static SlotComparator thenById(final CategoryStore store, final SlotComparator comparator) {
+            return (one, other) -> {
+                final var result = comparator.compare(one, other);
+                return result != 0 ? result : store.compareIds(one, other);
+            };
+        }
+    }
+
+    /**
+     * Slots kept in sort order, searched through the store columns instead of materialized categories. A copy shares
+     * the array until its first write.
+     */
+    private static final class SlotIndex {
+
+        private final SlotComparator comparator;
+        private int[] slots;
+        private int size;
+        private boolean owned;
+
+        private SlotIndex(final SlotComparator comparator) {
+            this.comparator = comparator;
+            this.slots = new int[64];
+            this.owned = true;
+        }
+
+        private SlotIndex(final SlotComparator comparator, final SlotIndex source) {
+            this.comparator = comparator;
+            this.slots = source.slots;
+            this.size = source.size;
+        }
+
+        SlotIndex copy(final SlotComparator comparator) {
+            return new SlotIndex(comparator, this);
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        int get(final int position, final boolean descending) {
+            return this.slots[descending ? this.size - 1 - position : position];
+        }
+
+        void insert(final int slot) {
+            final var position = search(slot);
+            final var insertAt = position < 0 ? -position - 1 : position;
+
+            if (this.size == this.slots.length) {
+                this.slots = Arrays.copyOf(this.slots, this.size * 2);
+                this.owned = true;
+            }
+            own();
+            System.arraycopy(this.slots, insertAt, this.slots, insertAt + 1, this.size - insertAt);
+            this.slots[insertAt] = slot;
+            this.size++;
+        }
+
+        void delete(final int slot) {
+            final var position = search(slot);
+            if (position >= 0) {
+                own();
+                System.arraycopy(this.slots, position + 1, this.slots, position, this.size - position - 1);
+                this.size--;
+            }
+        }
+
+        private void own() {
+            if (!this.owned) {
+                this.slots = this.slots.clone();
+                this.owned = true;
+            }
+        }
+
+        private int search(final int slot) {
+            var low = 0;
+            var high = this.size - 1;
+            while (low <= high) {
+                final var middle = (low + high) >>> 1;
+                final var result = this.comparator.compare(this.slots[middle], slot);
+                if (result < 0) {
+                    low = middle + 1;
+                } else if (result > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+
+    /**
+     * Tokens of names and descriptions in sorted order, each with the sorted slots containing it. The slot arrays are
+     * never modified, a copy shares them and only clones the token table on its first write.
+     */
+    private static final class TokenIndex {
+
+        private String[] tokens;
+        private int[][] postings;
+        private int size;
+        private boolean owned;
+
+        private TokenIndex() {
+            this.tokens = new String[64];
+            this.postings = new int[64][];
+            this.owned = true;
+        }
+
+        private TokenIndex(final TokenIndex source) {
+            this.tokens = source.tokens;
+            this.postings = source.postings;
+            this.size = source.size;
+        }
+
+        TokenIndex copy() {
+            return new TokenIndex(this);
+        }
+
+        void forEachStartingWith(final String prefix, final Consumer<int[]> action) {
+            // the tokens starting with the prefix sit together from its insertion point on
+            final var position = Arrays.binarySearch(this.tokens, 0, this.size, prefix);
+            for (int i = position >= 0 ? position : -position - 1; i < this.size && this.tokens[i].startsWith(prefix); i++) {
+                action.accept(this.postings[i]);
+            }
+        }
+
+        void add(final String token, final int slot) {
+            final var position = Arrays.binarySearch(this.tokens, 0, this.size, token);
+            if (position >= 0) {
+                own();
+                this.postings[position] = with(this.postings[position], slot);
+                return;
+            }
+
+            final var insertAt = -position - 1;
+            if (this.size == this.tokens.length) {
+                this.tokens = Arrays.copyOf(this.tokens, this.size * 2);
+                this.postings = Arrays.copyOf(this.postings, this.size * 2);
+                this.owned = true;
+            }
+            own();
+            System.arraycopy(this.tokens, insertAt, this.tokens, insertAt + 1, this.size - insertAt);
+            System.arraycopy(this.postings, insertAt, this.postings, insertAt + 1, this.size - insertAt);
+            this.tokens[insertAt] = token;
+            this.postings[insertAt] = with(NO_SLOTS, slot);
+            this.size++;
+        }
+
+        void remove(final String token, final int slot) {
+            final var position = Arrays.binarySearch(this.tokens, 0, this.size, token);
+            if (position < 0) {
+                return;
+            }
+
+            own();
+            final var remaining = without(this.postings[position], slot);
+            if (remaining.length > 0) {
+                this.postings[position] = remaining;
+                return;
+            }
+
+            System.arraycopy(this.tokens, position + 1, this.tokens, position, this.size - position - 1);
+            System.arraycopy(this.postings, position + 1, this.postings, position, this.size - position - 1);
+            this.size--;
+            this.tokens[this.size] = null;
+            this.postings[this.size] = null;
+        }
+
+        private void own() {
+            if (!this.owned) {
+                this.tokens = this.tokens.clone();
+                this.postings = this.postings.clone();
+                this.owned = true;
+            }
+        }
+
+        private static int[] with(final int[] slots, final int slot) {
+            final var position = Arrays.binarySearch(slots, slot);
+            if (position >= 0) {
+                return slots;
+            }
+
+            final var insertAt = -position - 1;
+            final var updated = new int[slots.length + 1];
+            System.arraycopy(slots, 0, updated, 0, insertAt);
+            updated[insertAt] = slot;
+            System.arraycopy(slots, insertAt, updated, insertAt + 1, slots.length - insertAt);
+            return updated;
+        }
+
+        private static int[] without(final int[] slots, final int slot) {
+            final var position = Arrays.binarySearch(slots, slot);
+            if (position < 0) {
+                return slots;
+            }
+
+            final var updated = new int[slots.length - 1];
+            System.arraycopy(slots, 0, updated, 0, position);
+            System.arraycopy(slots, position + 1, updated, position, slots.length - position - 1);
+            return updated;
+        }
     }
 }
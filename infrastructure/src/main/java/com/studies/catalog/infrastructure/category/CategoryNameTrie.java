@@ -0,0 +1,220 @@
+package com.studies.catalog.infrastructure.category;
+
+import java.util.Arrays;
+
+/**
+ * Immutable trie over the tokens of category names, backing the typeahead of {@link CategoryInMemoryGateway}. Adding
+ * or removing a token copies only the path to it, so every version of the gateway keeps its own trie while sharing
+ * all other nodes.
+ * <p>
+ * Each node keeps the slots whose name holds exactly its token and the first {@code capacity} slots of its whole
+ * subtree, both in name order, so a prefix is answered by reading one node.
+ */
+final class CategoryNameTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final CategoryNameTrie[] NO_CHILDREN = new CategoryNameTrie[0];
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final int capacity;
+    private final char[] keys;
+    private final CategoryNameTrie[] children;
+    private final int[] slots;
+    private final int[] top;
+
+    CategoryNameTrie(final int capacity) {
+        this(capacity, NO_KEYS, NO_CHILDREN, NO_SLOTS, NO_SLOTS);
+    }
+
+    private CategoryNameTrie(
+            final int capacity,
+            final char[] keys,
+            final CategoryNameTrie[] children,
+            final int[] slots,
+            final int[] top
+    ) {
+        this.capacity = capacity;
+        this.keys = keys;
+        this.children = children;
+        this.slots = slots;
+        this.top = top;
+    }
+
+    /**
+     * The first slots in name order among the names holding a token that starts with the prefix.
+     */
+    int[] top(final String prefix) {
+        final var node = find(prefix);
+        return node != null ? node.top : NO_SLOTS;
+    }
+
+    /**
+     * The slots in name order whose name holds exactly this token.
+     */
+    int[] slots(final String token) {
+        final var node = find(token);
+        return node != null ? node.slots : NO_SLOTS;
+    }
+
+    CategoryNameTrie add(final String token, final int slot, final SlotComparator order) {
+        return add(token, 0, slot, order);
+    }
+
+    CategoryNameTrie remove(final String token, final int slot, final SlotComparator order) {
+        final var updated = remove(token, 0, slot, order);
+        return updated != null ? updated : new CategoryNameTrie(this.capacity);
+    }
+
+    private CategoryNameTrie find(final String token) {
+        var node = this;
+        for (int i = 0; i < token.length() && node != null; i++) {
+            final var position = Arrays.binarySearch(node.keys, token.charAt(i));
+            node = position >= 0 ? node.children[position] : null;
+        }
+        return node;
+    }
+
+    private CategoryNameTrie add(final String token, final int depth, final int slot, final SlotComparator order) {
+        final var top = insert(this.top, slot, order, this.capacity);
+
+        if (depth == token.length()) {
+            return new CategoryNameTrie(this.capacity, this.keys, this.children, insert(this.slots, slot, order, Integer.MAX_VALUE), top);
+        }
+
+        final var key = token.charAt(depth);
+        final var position = Arrays.binarySearch(this.keys, key);
+        if (position >= 0) {
+            final var children = this.children.clone();
+            children[position] = children[position].add(token, depth + 1, slot, order);
+            return new CategoryNameTrie(this.capacity, this.keys, children, this.slots, top);
+        }
+
+        final var insertAt = -position - 1;
+        final var keys = new char[this.keys.length + 1];
+        final var children = new CategoryNameTrie[this.children.length + 1];
+        System.arraycopy(this.keys, 0, keys, 0, insertAt);
+        System.arraycopy(this.children, 0, children, 0, insertAt);
+        keys[insertAt] = key;
+        children[insertAt] = new CategoryNameTrie(this.capacity).add(token, depth + 1, slot, order);
+        System.arraycopy(this.keys, insertAt, keys, insertAt + 1, this.keys.length - insertAt);
+        System.arraycopy(this.children, insertAt, children, insertAt + 1, this.children.length - insertAt);
+        return new CategoryNameTrie(this.capacity, keys, children, this.slots, top);
+    }
+
+    private CategoryNameTrie remove(final String token, final int depth, final int slot, final SlotComparator order) {
+        var keys = this.keys;
+        var children = this.children;
+        var slots = this.slots;
+
+        if (depth == token.length()) {
+            slots = delete(slots, slot, order);
+        } else {
+            final var position = Arrays.binarySearch(keys, token.charAt(depth));
+            if (position < 0) {
+                return this;
+            }
+
+            final var child = children[position].remove(token, depth + 1, slot, order);
+            if (child != null) {
+                children = children.clone();
+                children[position] = child;
+            } else {
+                keys = without(keys, position);
+                children = without(children, position);
+            }
+        }
+
+        if (slots.length == 0 && children.length == 0) {
+            return null;
+        }
+
+        // only a node that listed the slot among its first ones has to look at its subtree again
+        final var top = contains(this.top, slot) ? merge(slots, children, order) : this.top;
+        return new CategoryNameTrie(this.capacity, keys, children, slots, top);
+    }
+
+    private int[] merge(final int[] slots, final CategoryNameTrie[] children, final SlotComparator order) {
+        var top = Arrays.copyOf(slots, Math.min(slots.length, this.capacity));
+        for (final var child : children) {
+            for (final var slot : child.top) {
+                // the child's slots are in name order, once one comes after a full list the rest do too
+                if (top.length == this.capacity && order.compare(slot, top[top.length - 1]) > 0) {
+                    break;
+                }
+                top = insert(top, slot, order, this.capacity);
+            }
+        }
+        return top;
+    }
+
+    private static int[] insert(final int[] slots, final int slot, final SlotComparator order, final int capacity) {
+        final var position = search(slots, slot, order);
+        if (position >= 0) {
+            return slots;
+        }
+
+        final var insertAt = -position - 1;
+        if (insertAt >= capacity) {
+            return slots;
+        }
+
+        final var length = Math.min(slots.length + 1, capacity);
+        final var updated = new int[length];
+        System.arraycopy(slots, 0, updated, 0, insertAt);
+        updated[insertAt] = slot;
+        System.arraycopy(slots, insertAt, updated, insertAt + 1, length - insertAt - 1);
+        return updated;
+    }
+
+    private static int[] delete(final int[] slots, final int slot, final SlotComparator order) {
+        final var position = search(slots, slot, order);
+        if (position < 0) {
+            return slots;
+        }
+
+        final var updated = new int[slots.length - 1];
+        System.arraycopy(slots, 0, updated, 0, position);
+        System.arraycopy(slots, position + 1, updated, position, slots.length - position - 1);
+        return updated;
+    }
+
+    private static int search(final int[] slots, final int slot, final SlotComparator order) {
+        var low = 0;
+        var high = slots.length - 1;
+        while (low <= high) {
+            final var middle = (low + high) >>> 1;
+            final var result = order.compare(slots[middle], slot);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static boolean contains(final int[] slots, final int slot) {
+        for (final var each : slots) {
+            if (each == slot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char[] without(final char[] keys, final int position) {
+        final var updated = new char[keys.length - 1];
+        System.arraycopy(keys, 0, updated, 0, position);
+        System.arraycopy(keys, position + 1, updated, position, keys.length - position - 1);
+        return updated;
+    }
+
+    private static CategoryNameTrie[] without(final CategoryNameTrie[] children, final int position) {
+        final var updated = new CategoryNameTrie[children.length - 1];
+        System.arraycopy(children, 0, updated, 0, position);
+        System.arraycopy(children, position + 1, updated, position, children.length - position - 1);
+        return updated;
+    }
+}
@@ -0,0 +1,77 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.pagination.Pagination;
+import com.studies.catalog.infrastructure.category.persistence.CategoryDocument;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The reads of {@link CategoryElasticsearchGateway} on the non-blocking client: no thread waits for Elasticsearch to
+ * answer, so how many searches are in flight is not bounded by the request workers. Queries are built the same way
+ * for both, only pages continuing a cursor are left to the blocking gateway.
+ */
+@Component
+public class CategoryReactiveElasticsearchGateway {
+
+    private final ReactiveElasticsearchOperations searchOperations;
+
+    public CategoryReactiveElasticsearchGateway(final ReactiveElasticsearchOperations searchOperations) {
+        this.searchOperations = Objects.requireNonNull(searchOperations);
+    }
+
+    public Mono<List<Category>> findAllById(final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        final var query = NativeQuery.builder()
+                .withIds(new LinkedHashSet<>(ids))
+                .build();
+
+        return this.searchOperations.multiGet(query, CategoryDocument.class)
+                .filter(MultiGetItem::hasItem)
+                .map(item -> item.getItem().toCategory())
+                .collectList();
+    }
+
+    public Mono<Pagination<Category>> findAll(final CategorySearchQuery aQuery) {
+        if (aQuery.hasCursor()) {
+            return Mono.error(new IllegalArgumentException("Cursor pages are read by CategoryElasticsearchGateway"));
+        }
+
+        final var currentPage = aQuery.page();
+        final var perPage = aQuery.perPage();
+
+        return this.searchOperations.searchForPage(CategoryElasticsearchGateway.searchQuery(aQuery), CategoryDocument.class)
+                .map(page -> {
+                    final var res = page.getSearchHits();
+                    final var categories = res.stream()
+                            .map(SearchHit::getContent)
+                            .map(CategoryDocument::toCategory)
+                            .toList();
+
+                    return new Pagination<>(currentPage, perPage, res.getTotalHits(), nextCursor(res, aQuery), categories);
+                });
+    }
+
+    private static String nextCursor(final SearchHits<CategoryDocument> res, final CategorySearchQuery aQuery) {
+        if (res.getSearchHits().size() < aQuery.perPage()) {
+            return null;
+        }
+
+        final var last = res.getSearchHit(res.getSearchHits().size() - 1);
+        return CategoryCursor.of(last.getSortValues(), null, aQuery).encode();
+    }
+}
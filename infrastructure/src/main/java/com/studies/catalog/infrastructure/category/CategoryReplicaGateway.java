@@ -0,0 +1,170 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryBulkResult;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.category.CategoryGateway;
+import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+import com.studies.catalog.domain.pagination.Pagination;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryReplicaProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves category reads from an in-process copy of the index. The copy is restored from a snapshot or hydrated from
+ * Elasticsearch, then follows the category topic through {@link #apply(List)} and the single saves and deletes made
+ * through this gateway. Until it is marked as hydrated, reads go to Elasticsearch.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "replica.categories", name = "enabled", havingValue = "true")
+public class CategoryReplicaGateway implements CategoryGateway {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryReplicaGateway.class);
+
+    private final CategoryElasticsearchGateway delegate;
+    private final CategoryInMemoryGateway replica;
+    private final CategoryReplicaProperties properties;
+
+    private volatile boolean hydrated;
+    private volatile Consistency lastCheck;
+
+    public CategoryReplicaGateway(
+            final CategoryElasticsearchGateway delegate,
+            final CategoryReplicaProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.properties = Objects.requireNonNull(properties);
+        this.replica = new CategoryInMemoryGateway();
+
+        Gauge.builder("categories.replica.size", this.replica, CategoryInMemoryGateway::count)
+                .register(meterRegistry);
+    }
+
+    public void hydrate() {
+        final var startedAt = System.currentTimeMillis();
+        this.delegate.scan(this.properties.batchSize(), this.replica::load);
+        LOG.info("Category replica loaded {} categories from the index in {} ms", this.replica.count(), System.currentTimeMillis() - startedAt);
+    }
+
+    public void restore(final CategorySnapshot aSnapshot) {
+        this.replica.load(aSnapshot.categories());
+        LOG.info("Category replica restored {} categories from the snapshot taken at {}", this.replica.count(), aSnapshot.takenAt());
+    }
+
+    public CategorySnapshot snapshot(final List<CategorySnapshot.Position> positions) {
+        return new CategorySnapshot(Instant.now(), positions, this.replica.export());
+    }
+
+    public void apply(final List<CategoryChange> changes) {
+        this.replica.bulk(changes);
+
+        // until hydrated every delete is kept, a page of the index read before it must not bring the category back
+        if (this.hydrated) {
+            this.replica.forgetDeletesOlderThan(this.properties.deletesRetention());
+        }
+    }
+
+    public void markHydrated() {
+        this.replica.forgetDeletes();
+        this.hydrated = true;
+    }
+
+    public boolean isHydrated() {
+        return this.hydrated;
+    }
+
+    public Consistency checkConsistency() {
+        final var previous = this.lastCheck;
+        if (previous != null && previous.checkedAt().plus(this.properties.consistencyCheckInterval()).isAfter(Instant.now())) {
+            return previous;
+        }
+
+        final var current = new Consistency(this.replica.count(), this.delegate.count(), Instant.now());
+        if (!current.isConsistent()) {
+            LOG.warn("Category replica holds {} categories but the index holds {}", current.replicaCount(), current.indexCount());
+        }
+
+        this.lastCheck = current;
+        return current;
+    }
+
+    @Override
+    public Category save(final Category aCategory) {
+        final var category = this.delegate.save(aCategory);
+        this.replica.save(category);
+        return category;
+    }
+
+    @Override
+    public void deleteById(final String anId) {
+        this.delegate.deleteById(anId);
+        this.replica.deleteById(anId);
+    }
+
+    @Override
+    public Optional<Category> findById(final String anId) {
+        return this.hydrated ? this.replica.findById(anId) : this.delegate.findById(anId);
+    }
+
+    @Override
+    public List<Category> findAllById(final Collection<String> ids) {
+        return this.hydrated ? this.replica.findAllById(ids) : this.delegate.findAllById(ids);
+    }
+
+    @Override
+    public CompletableFuture<List<Category>> findAllByIdAsync(final Collection<String> ids) {
+        return this.hydrated ? this.replica.findAllByIdAsync(ids) : this.delegate.findAllByIdAsync(ids);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        // cursors are point-in-time bound and only Elasticsearch can continue them, terms and relevance need its analyzers
+        if (readsFromIndex(aQuery)) {
+            return this.delegate.findAll(aQuery);
+        }
+        return this.replica.findAll(aQuery);
+    }
+
+    @Override
+    public CompletableFuture<Pagination<Category>> findAllAsync(final CategorySearchQuery aQuery) {
+        return readsFromIndex(aQuery) ? this.delegate.findAllAsync(aQuery) : this.replica.findAllAsync(aQuery);
+    }
+
+    @Override
+    public List<Category> suggest(final CategorySuggestionQuery aQuery) {
+        return this.hydrated ? this.replica.suggest(aQuery) : this.delegate.suggest(aQuery);
+    }
+
+    @Override
+    public CategoryBulkResult bulk(final List<CategoryChange> changes) {
+        // bulks come from the topic, which CategoryReplicaListener already applies to the replica once per poll
+        return this.delegate.bulk(changes);
+    }
+
+    private boolean readsFromIndex(final CategorySearchQuery aQuery) {
+        return !this.hydrated || aQuery.hasCursor() || aQuery.sortsByRelevance() || StringUtils.isNotBlank(aQuery.terms());
+    }
+
+    public record Consistency(long replicaCount, long indexCount, Instant checkedAt) {
+
+        public boolean isConsistent() {
+            return replicaCount == indexCount;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.studies.catalog.infrastructure.category;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@ConditionalOnProperty(prefix = "replica.categories", name = "enabled", havingValue = "true")
+public class CategoryReplicaHealthIndicator implements HealthIndicator {
+
+    private final CategoryReplicaGateway replicaGateway;
+
+    public CategoryReplicaHealthIndicator(final CategoryReplicaGateway replicaGateway) {
+        this.replicaGateway = Objects.requireNonNull(replicaGateway);
+    }
+
+    @Override
+    public Health health() {
+        if (!this.replicaGateway.isHydrated()) {
+            return Health.outOfService().withDetail("hydrated", false).build();
+        }
+
+        final var consistency = this.replicaGateway.checkConsistency();
+        return Health.up()
+                .withDetail("hydrated", true)
+                .withDetail("consistent", consistency.isConsistent())
+                .withDetail("replicaCount", consistency.replicaCount())
+                .withDetail("indexCount", consistency.indexCount())
+                .withDetail("checkedAt", consistency.checkedAt())
+                .build();
+    }
+}
@@ -0,0 +1,165 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.exceptions.InternalErrorException;
+import com.studies.catalog.infrastructure.category.models.CategoryDTO;
+import com.studies.catalog.infrastructure.category.models.CategoryLookupRequest;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryRestClientProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Profile("!dev")
+public class CategoryRestGateway implements CategoryGateway {
+
+    private static final int OK = 200;
+    private static final int NOT_FOUND = 404;
+    private static final TypeReference<List<CategoryDTO>> CATEGORY_LIST = new TypeReference<>() {
+    };
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration readTimeout;
+    private final int batchSize;
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<Category>>> inFlight;
+
+    public CategoryRestGateway(final CategoryRestClientProperties properties) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(properties.connectTimeout()))
+                .build();
+        this.baseUrl = properties.baseUrl();
+        this.readTimeout = Duration.ofMillis(properties.readTimeout());
+        this.batchSize = Math.max(properties.batchSize(), 1);
+        this.inFlight = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Optional<Category> categoryOfId(final String anId) {
+        final var call = new CompletableFuture<Optional<Category>>();
+        final var current = this.inFlight.putIfAbsent(anId, call);
+
+        if (current != null) {
+            return await(current);
+        }
+
+        try {
+            call.complete(fetch(anId));
+        } catch (final RuntimeException ex) {
+            call.completeExceptionally(ex);
+        } finally {
+            this.inFlight.remove(anId, call);
+        }
+
+        return await(call);
+    }
+
+    @Override
+    public Map<String, Category> categoriesOfIds(final Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        final var distinct = List.copyOf(new LinkedHashSet<>(ids));
+        final var calls = new ArrayList<CompletableFuture<List<CategoryDTO>>>();
+
+        for (int i = 0; i < distinct.size(); i += batchSize) {
+            calls.add(fetchAll(distinct.subList(i, Math.min(i + batchSize, distinct.size()))));
+        }
+
+        final var categories = new HashMap<String, Category>(distinct.size());
+        for (final var call : calls) {
+            await(call).forEach(dto -> categories.put(dto.id(), dto.toCategory()));
+        }
+
+        return categories;
+    }
+
+    private CompletableFuture<List<CategoryDTO>> fetchAll(final List<String> ids) {
+        final var request = HttpRequest.newBuilder(URI.create("%s/categories/lookup".formatted(baseUrl)))
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .timeout(readTimeout)
+                .POST(HttpRequest.BodyPublishers.ofString(Json.writeValueAsString(new CategoryLookupRequest(ids))))
+                .build();
+
+        return this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() != OK) {
+                        throw InternalErrorException.with(
+                                "Unexpected status %s when looking up %s categories".formatted(response.statusCode(), ids.size()), null);
+                    }
+                    return Json.readValue(response.body(), CATEGORY_LIST);
+                });
+    }
+
+    private Optional<Category> fetch(final String anId) {
+        // the id is one encoded path segment, a slash or a query character in it cannot reach another resource
+        final var uri = UriComponentsBuilder.fromUriString(baseUrl)
+                .pathSegment("categories", anId)
+                .build()
+                .encode()
+                .toUri();
+
+        final var request = HttpRequest.newBuilder(uri)
+                .header("Accept", "application/json")
+                .timeout(readTimeout)
+                .GET()
+                .build();
+
+        final var response = send(request);
+
+        if (response.statusCode() == NOT_FOUND) {
+            return Optional.empty();
+        }
+
+        if (response.statusCode() != OK) {
+            throw InternalErrorException.with(
+                    "Unexpected status %s when fetching category %s".formatted(response.statusCode(), anId), null);
+        }
+
+        return Optional.of(Json.readValue(response.body(), CategoryDTO.class).toCategory());
+    }
+
+    private HttpResponse<String> send(final HttpRequest request) {
+        try {
+            return this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final IOException ex) {
+            throw InternalErrorException.with("Failed to call %s".formatted(request.uri()), ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while calling %s".formatted(request.uri()), ex);
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw InternalErrorException.with("Failed to call the admin catalogue", ex.getCause());
+        }
+    }
+}
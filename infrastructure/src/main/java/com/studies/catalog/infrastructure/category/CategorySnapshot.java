@@ -0,0 +1,205 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Point-in-time copy of the category replica and the topic positions it reflects. Stored as a single binary file
+ * written through a memory mapping and replaced atomically, with a trailing checksum so a torn or foreign file is
+ * ignored rather than loaded.
+ */
+public record CategorySnapshot(Instant takenAt, List<Position> positions, List<CategoryChange> categories) {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategorySnapshot.class);
+
+    private static final int MAGIC = 0x43415453;
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 4 + Long.BYTES;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+    private static final int INSTANT_SIZE = 1 + Long.BYTES + Integer.BYTES;
+    private static final int VERSION_SIZE = 1 + Long.BYTES;
+
+    public static Optional<CategorySnapshot> read(final Path path) {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer));
+        } catch (final NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (final IOException | RuntimeException ex) {
+            LOG.warn("Ignoring unreadable category snapshot {}", path, ex);
+            return Optional.empty();
+        }
+    }
+
+    public void write(final Path path) {
+        final var positionBytes = new ArrayList<byte[]>(positions.size());
+        final var categoryBytes = new ArrayList<byte[][]>(categories.size());
+        long size = HEADER_SIZE + CHECKSUM_SIZE;
+
+        for (final var position : positions) {
+            final var topic = utf8(position.topic());
+            positionBytes.add(topic);
+            size += sizeOf(topic) + Integer.BYTES + Long.BYTES;
+        }
+
+        for (final var change : categories) {
+            final var category = change.category();
+            final var strings = new byte[][]{utf8(category.id()), utf8(category.name()), utf8(category.description())};
+            categoryBytes.add(strings);
+            size += sizeOf(strings[0]) + sizeOf(strings[1]) + sizeOf(strings[2]) + 1 + INSTANT_SIZE * 3 + VERSION_SIZE;
+        }
+
+        try {
+            final var directory = path.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            final var temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+            try (final var channel = FileChannel.open(temporary, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+                buffer.putInt(MAGIC).putInt(FORMAT).putLong(takenAt.toEpochMilli())
+                        .putInt(positions.size()).putInt(categories.size());
+
+                for (int i = 0; i < positions.size(); i++) {
+                    putBytes(buffer, positionBytes.get(i));
+                    buffer.putInt(positions.get(i).partition()).putLong(positions.get(i).offset());
+                }
+
+                for (int i = 0; i < categories.size(); i++) {
+                    final var change = categories.get(i);
+                    final var category = change.category();
+                    final var strings = categoryBytes.get(i);
+
+                    putBytes(buffer, strings[0]);
+                    putBytes(buffer, strings[1]);
+                    putBytes(buffer, strings[2]);
+                    buffer.put((byte) (category.active() ? 1 : 0));
+                    putInstant(buffer, category.createdAt());
+                    putInstant(buffer, category.updatedAt());
+                    putInstant(buffer, category.deletedAt());
+                    putVersion(buffer, change.version());
+                }
+
+                buffer.putInt(checksumOf(buffer, buffer.position()));
+                buffer.force();
+            }
+
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Failed to write category snapshot " + path, ex);
+        }
+    }
+
+    private static CategorySnapshot decode(final ByteBuffer buffer) {
+        final var limit = buffer.limit() - CHECKSUM_SIZE;
+        if (limit < HEADER_SIZE || buffer.getInt(limit) != checksumOf(buffer, limit)) {
+            throw new IllegalStateException("Category snapshot checksum mismatch");
+        }
+
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+            throw new IllegalStateException("Not a category snapshot");
+        }
+
+        final var takenAt = Instant.ofEpochMilli(buffer.getLong());
+        final var positionCount = buffer.getInt();
+        final var categoryCount = buffer.getInt();
+
+        final var positions = new ArrayList<Position>(positionCount);
+        for (int i = 0; i < positionCount; i++) {
+            positions.add(new Position(getString(buffer), buffer.getInt(), buffer.getLong()));
+        }
+
+        final var categories = new ArrayList<CategoryChange>(categoryCount);
+        for (int i = 0; i < categoryCount; i++) {
+            final var category = Category.with(
+                    getString(buffer),
+                    getString(buffer),
+                    getString(buffer),
+                    buffer.get() == 1,
+                    getInstant(buffer),
+                    getInstant(buffer),
+                    getInstant(buffer)
+            );
+            categories.add(CategoryChange.save(category, getVersion(buffer)));
+        }
+
+        return new CategorySnapshot(takenAt, positions, categories);
+    }
+
+    private static int checksumOf(final ByteBuffer buffer, final int length) {
+        final var crc = new CRC32C();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return (int) crc.getValue();
+    }
+
+    private static byte[] utf8(final String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int sizeOf(final byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static void putBytes(final ByteBuffer buffer, final byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        final var length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+
+        final var value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static void putInstant(final ByteBuffer buffer, final Instant value) {
+        buffer.put((byte) (value == null ? 0 : 1))
+                .putLong(value == null ? 0 : value.getEpochSecond())
+                .putInt(value == null ? 0 : value.getNano());
+    }
+
+    private static Instant getInstant(final ByteBuffer buffer) {
+        final var present = buffer.get() == 1;
+        final var seconds = buffer.getLong();
+        final var nanos = buffer.getInt();
+        return present ? Instant.ofEpochSecond(seconds, nanos) : null;
+    }
+
+    private static void putVersion(final ByteBuffer buffer, final Long value) {
+        buffer.put((byte) (value == null ? 0 : 1)).putLong(value == null ? 0 : value);
+    }
+
+    private static Long getVersion(final ByteBuffer buffer) {
+        final var present = buffer.get() == 1;
+        final var value = buffer.getLong();
+        return present ? value : null;
+    }
+
+    public record Position(String topic, int partition, long offset) {
+    }
+}
@@ -0,0 +1,243 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.category.Category;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.function.IntConsumer;
+
+/**
+ * Column-oriented storage for the categories held by {@link CategoryInMemoryGateway}. Each category occupies a slot
+ * across primitive columns: ids as two longs, timestamps as epoch millis, flags as bits and texts in a shared
+ * {@link Utf8Arena}. {@link Category} instances are only built when a slot is read.
+ * <p>
+ * A {@link #copy()} shares the columns chunk by chunk and writing to it leaves the original untouched. A store is
+ * written by a single thread and read concurrently once it is no longer written.
+ */
+final class CategoryStore {
+
+    private static final long ABSENT = Long.MIN_VALUE;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private static final int USED = 1;
+    private static final int ACTIVE = 1 << 1;
+    private static final int TEXT_ID = 1 << 2;
+
+    private final LongChunks idHigh;
+    private final LongChunks idLow;
+    private final IntChunks nameRefs;
+    private final IntChunks descriptionRefs;
+    private final LongChunks createdAt;
+    private final LongChunks updatedAt;
+    private final LongChunks deletedAt;
+    private final LongChunks versions;
+    private final IntChunks flags;
+
+    private int[] freeSlots;
+    private int freeCount;
+    private int highWater;
+    private int count;
+
+    private Utf8Arena arena;
+
+    CategoryStore() {
+        this(64);
+    }
+
+    CategoryStore(final int capacity) {
+        this.idHigh = new LongChunks(capacity, 0);
+        this.idLow = new LongChunks(capacity, 0);
+        this.nameRefs = new IntChunks(capacity, 0);
+        this.descriptionRefs = new IntChunks(capacity, 0);
+        this.createdAt = new LongChunks(capacity, 0);
+        this.updatedAt = new LongChunks(capacity, 0);
+        this.deletedAt = new LongChunks(capacity, 0);
+        this.versions = new LongChunks(capacity, 0);
+        this.flags = new IntChunks(capacity, 0);
+        this.freeSlots = new int[16];
+        this.arena = new Utf8Arena();
+    }
+
+    private CategoryStore(final CategoryStore source) {
+        this.idHigh = source.idHigh.copy();
+        this.idLow = source.idLow.copy();
+        this.nameRefs = source.nameRefs.copy();
+        this.descriptionRefs = source.descriptionRefs.copy();
+        this.createdAt = source.createdAt.copy();
+        this.updatedAt = source.updatedAt.copy();
+        this.deletedAt = source.deletedAt.copy();
+        this.versions = source.versions.copy();
+        this.flags = source.flags.copy();
+        this.freeSlots = source.freeSlots.clone();
+        this.freeCount = source.freeCount;
+        this.highWater = source.highWater;
+        this.count = source.count;
+        this.arena = source.arena;
+    }
+
+    CategoryStore copy() {
+        return new CategoryStore(this);
+    }
+
+    int add(final Category aCategory, final Long version) {
+        final var slot = this.freeCount > 0 ? this.freeSlots[--this.freeCount] : nextSlot();
+
+        var slotFlags = USED;
+        final var anId = aCategory.id();
+        if (CategoryIdIndex.isHexId(anId)) {
+            this.idHigh.set(slot, CategoryIdIndex.parseHex(anId, 0));
+            this.idLow.set(slot, CategoryIdIndex.parseHex(anId, 16));
+        } else {
+            this.idLow.set(slot, this.arena.intern(anId));
+            slotFlags |= TEXT_ID;
+        }
+
+        if (aCategory.active()) {
+            slotFlags |= ACTIVE;
+        }
+
+        this.nameRefs.set(slot, this.arena.intern(aCategory.name()));
+        this.descriptionRefs.set(slot, this.arena.intern(aCategory.description()));
+        this.createdAt.set(slot, millisOf(aCategory.createdAt()));
+        this.updatedAt.set(slot, millisOf(aCategory.updatedAt()));
+        this.deletedAt.set(slot, millisOf(aCategory.deletedAt()));
+        this.versions.set(slot, version != null ? version : ABSENT);
+        this.flags.set(slot, slotFlags);
+        this.count++;
+        return slot;
+    }
+
+    void remove(final int slot) {
+        if (hasTextId(slot)) {
+            this.arena.release((int) this.idLow.get(slot));
+        }
+        this.arena.release(this.nameRefs.get(slot));
+        this.arena.release(this.descriptionRefs.get(slot));
+        this.flags.set(slot, 0);
+        this.count--;
+
+        if (this.freeCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeCount * 2);
+        }
+        this.freeSlots[this.freeCount++] = slot;
+
+        if (this.arena.needsCompaction()) {
+            compact();
+        }
+    }
+
+    Category get(final int slot) {
+        return Category.with(
+                id(slot),
+                name(slot),
+                description(slot),
+                (this.flags.get(slot) & ACTIVE) != 0,
+                instantOf(this.createdAt.get(slot)),
+                instantOf(this.updatedAt.get(slot)),
+                instantOf(this.deletedAt.get(slot))
+        );
+    }
+
+    String id(final int slot) {
+        if (hasTextId(slot)) {
+            return this.arena.string((int) this.idLow.get(slot));
+        }
+        return HEX.toHexDigits(this.idHigh.get(slot)) + HEX.toHexDigits(this.idLow.get(slot));
+    }
+
+    String name(final int slot) {
+        return this.arena.string(this.nameRefs.get(slot));
+    }
+
+    String description(final int slot) {
+        return this.arena.string(this.descriptionRefs.get(slot));
+    }
+
+    Long version(final int slot) {
+        final var version = this.versions.get(slot);
+        return version != ABSENT ? version : null;
+    }
+
+    void forEachSlot(final IntConsumer action) {
+        for (int slot = 0; slot < this.highWater; slot++) {
+            if ((this.flags.get(slot) & USED) != 0) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    int count() {
+        return this.count;
+    }
+
+    int capacity() {
+        return this.highWater;
+    }
+
+    int compareIds(final int one, final int other) {
+        if (hasTextId(one) || hasTextId(other)) {
+            return id(one).compareTo(id(other));
+        }
+
+        // lowercase hex sorts like the unsigned value it encodes
+        final var high = Long.compareUnsigned(this.idHigh.get(one), this.idHigh.get(other));
+        return high != 0 ? high : Long.compareUnsigned(this.idLow.get(one), this.idLow.get(other));
+    }
+
+    int compareNames(final int one, final int other) {
+        return this.arena.compare(this.nameRefs.get(one), this.nameRefs.get(other));
+    }
+
+    int compareCreatedAt(final int one, final int other) {
+        return Long.compare(this.createdAt.get(one), this.createdAt.get(other));
+    }
+
+    int compareUpdatedAt(final int one, final int other) {
+        return Long.compare(this.updatedAt.get(one), this.updatedAt.get(other));
+    }
+
+    private boolean hasTextId(final int slot) {
+        return (this.flags.get(slot) & TEXT_ID) != 0;
+    }
+
+    private int nextSlot() {
+        if (this.highWater == this.idHigh.capacity()) {
+            grow(this.highWater * 2);
+        }
+        return this.highWater++;
+    }
+
+    private void grow(final int capacity) {
+        this.idHigh.grow(capacity);
+        this.idLow.grow(capacity);
+        this.nameRefs.grow(capacity);
+        this.descriptionRefs.grow(capacity);
+        this.createdAt.grow(capacity);
+        this.updatedAt.grow(capacity);
+        this.deletedAt.grow(capacity);
+        this.versions.grow(capacity);
+        this.flags.grow(capacity);
+    }
+
+    private void compact() {
+        // older versions keep reading the previous arena, only this copy moves to the compacted one
+        final var compacted = this.arena.emptyCopy();
+        forEachSlot(slot -> {
+            if (hasTextId(slot)) {
+                this.idLow.set(slot, this.arena.copyTo(compacted, (int) this.idLow.get(slot)));
+            }
+            this.nameRefs.set(slot, this.arena.copyTo(compacted, this.nameRefs.get(slot)));
+            this.descriptionRefs.set(slot, this.arena.copyTo(compacted, this.descriptionRefs.get(slot)));
+        });
+        this.arena = compacted;
+    }
+
+    private static long millisOf(final Instant value) {
+        return value == null ? ABSENT : value.toEpochMilli();
+    }
+
+    private static Instant instantOf(final long millis) {
+        return millis == ABSENT ? null : Instant.ofEpochMilli(millis);
+    }
+}
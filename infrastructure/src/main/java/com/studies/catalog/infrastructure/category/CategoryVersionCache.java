@@ -0,0 +1,135 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryLookupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of upstream categories by id, each entry stamped with the version of the change it was read for:
+ * the {@code source.ts_ms} of the event, so entries and events are compared on the clock of the source database. A
+ * lookup for a change is answered from the cache when the entry was read for that change or a later one, retries and
+ * repeated misses included, and read upstream again otherwise. Misses are cached as negative entries with their own
+ * TTL, and concurrent reads of one id for the same change collapse into a single call.
+ */
+public class CategoryVersionCache {
+
+    // plain lookups take whatever is cached, and an unversioned read satisfies nothing but them
+    private static final long ANY = Long.MIN_VALUE;
+
+    private final Cache<String, Entry> entries;
+
+    public CategoryVersionCache(final String name, final CategoryLookupCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfter(new EntryExpiry(properties.ttl(), properties.negativeTtl()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.entries, name);
+    }
+
+    public Optional<Category> get(final String anId, final Function<String, Optional<Category>> loader) {
+        return get(anId, ANY, loader);
+    }
+
+    /**
+     * The category as of {@code aVersion} or later, a null version always reads it upstream again.
+     */
+    public Optional<Category> get(final String anId, final Long aVersion, final Function<String, Optional<Category>> loader) {
+        final var entry = this.entries.getIfPresent(anId);
+        if (entry != null && entry.isAtLeast(aVersion)) {
+            return entry.category();
+        }
+
+        // under the entry's lock: callers for the same change share one read, and an older read never replaces a newer one
+        return this.entries.asMap().compute(anId, (id, current) ->
+                current != null && current.isAtLeast(aVersion) ? current : Entry.of(aVersion, loader.apply(id))
+        ).category();
+    }
+
+    public Map<String, Category> getAll(
+            final Collection<String> ids,
+            final Function<Collection<String>, Map<String, Category>> loader
+    ) {
+        final var versions = new HashMap<String, Long>(ids.size());
+        ids.forEach(anId -> versions.put(anId, ANY));
+        return getAll(versions, loader);
+    }
+
+    /**
+     * Same as {@link #get(String, Long, Function)} for several changes, the ids that are not cached as of their
+     * version are loaded in one call.
+     */
+    public Map<String, Category> getAll(
+            final Map<String, Long> versions,
+            final Function<Collection<String>, Map<String, Category>> loader
+    ) {
+        final var categories = new HashMap<String, Category>(versions.size());
+        final var missing = new ArrayList<String>();
+
+        versions.forEach((anId, version) -> {
+            final var entry = this.entries.getIfPresent(anId);
+            if (entry != null && entry.isAtLeast(version)) {
+                entry.category().ifPresent(category -> categories.put(anId, category));
+            } else {
+                missing.add(anId);
+            }
+        });
+
+        if (missing.isEmpty()) {
+            return categories;
+        }
+
+        final var loaded = loader.apply(missing);
+        for (final var anId : missing) {
+            final var version = versions.get(anId);
+            final var entry = this.entries.asMap().compute(anId, (id, current) ->
+                    current != null && current.isAtLeast(version) ? current : Entry.of(version, Optional.ofNullable(loaded.get(id))));
+            entry.category().ifPresent(category -> categories.put(anId, category));
+        }
+
+        return categories;
+    }
+
+    private record Entry(long version, Optional<Category> category) {
+
+        static Entry of(final Long version, final Optional<Category> category) {
+            return new Entry(Objects.requireNonNullElse(version, ANY), category);
+        }
+
+        boolean isAtLeast(final Long aVersion) {
+            return aVersion != null && this.version >= aVersion;
+        }
+    }
+
+    private record EntryExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(final String key, final Entry entry, final long currentTime) {
+            return (entry.category().isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Entry entry, final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Entry entry, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.studies.catalog.infrastructure.category;
+
+import java.util.Arrays;
+
+/**
+ * An int array split in fixed-size chunks that are shared between copies. A copy only clones the table of chunks and
+ * clones a chunk the first time it writes to it, so a published copy is never changed by later writes.
+ */
+final class IntChunks {
+
+    private static final int CHUNK_SHIFT = LongChunks.CHUNK_SHIFT;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int fill;
+    private int[][] chunks;
+    private boolean[] owned;
+
+    IntChunks(final int capacity, final int fill) {
+        this.fill = fill;
+        this.chunks = new int[0][];
+        this.owned = new boolean[0];
+        grow(capacity);
+    }
+
+    private IntChunks(final IntChunks source) {
+        this.fill = source.fill;
+        this.chunks = source.chunks.clone();
+        this.owned = new boolean[this.chunks.length];
+    }
+
+    IntChunks copy() {
+        return new IntChunks(this);
+    }
+
+    int get(final int index) {
+        return this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    void set(final int index, final int value) {
+        final var chunk = index >>> CHUNK_SHIFT;
+        if (!this.owned[chunk]) {
+            this.chunks[chunk] = this.chunks[chunk].clone();
+            this.owned[chunk] = true;
+        }
+        this.chunks[chunk][index & CHUNK_MASK] = value;
+    }
+
+    int capacity() {
+        final var last = this.chunks.length - 1;
+        return last < 0 ? 0 : (last << CHUNK_SHIFT) + this.chunks[last].length;
+    }
+
+    void grow(final int capacity) {
+        if (capacity <= capacity()) {
+            return;
+        }
+
+        // a table smaller than one chunk keeps a single short chunk, widened before more chunks are added
+        if (this.chunks.length == 1 && this.chunks[0].length < CHUNK_SIZE) {
+            final var length = this.chunks[0].length;
+            this.chunks[0] = Arrays.copyOf(this.chunks[0], Math.min(CHUNK_SIZE, Math.max(capacity, length * 2)));
+            Arrays.fill(this.chunks[0], length, this.chunks[0].length, this.fill);
+            this.owned[0] = true;
+            if (capacity <= CHUNK_SIZE) {
+                return;
+            }
+        }
+
+        final var from = this.chunks.length;
+        final var to = (capacity + CHUNK_MASK) >>> CHUNK_SHIFT;
+
+        this.chunks = Arrays.copyOf(this.chunks, to);
+        this.owned = Arrays.copyOf(this.owned, to);
+        for (int chunk = from; chunk < to; chunk++) {
+            this.chunks[chunk] = new int[to == 1 ? Math.max(capacity, 1) : CHUNK_SIZE];
+            if (this.fill != 0) {
+                Arrays.fill(this.chunks[chunk], this.fill);
+            }
+            this.owned[chunk] = true;
+        }
+    }
+}
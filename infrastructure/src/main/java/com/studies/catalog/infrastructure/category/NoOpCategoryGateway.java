@@ -2,11 +2,13 @@ package com.studies.catalog.infrastructure.category;
 
 import com.studies.catalog.domain.category.Category;
 import com.studies.catalog.domain.utils.InstantUtils;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
 @Component
+@Profile("dev")
 public class NoOpCategoryGateway implements CategoryGateway {
 
     @Override
@@ -0,0 +1,10 @@
+package com.studies.catalog.infrastructure.category;
+
+/**
+ * Orders {@link CategoryStore} slots by reading their columns, so no category has to be materialized to compare them.
+ */
+@FunctionalInterface
+interface SlotComparator {
+
+    int compare(int one, int other);
+}
@@ -0,0 +1,187 @@
+package com.studies.catalog.infrastructure.category;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Interned UTF-8 strings packed into one growing byte array. Equal strings share one entry, entries are reference
+ * counted and the space of released ones is reclaimed by copying the live entries into a fresh arena.
+ * <p>
+ * Entries are append-only, so an arena can be shared by the versions of a {@link CategoryStore}: one writer interns
+ * and releases while readers of older versions only ever read entries that existed when their version was published.
+ */
+final class Utf8Arena {
+
+    static final int NONE = -1;
+
+    private static final int MIN_GARBAGE_TO_COMPACT = 64 * 1024;
+
+    private byte[] bytes;
+    private int used;
+
+    private int[] offsets;
+    private int[] lengths;
+    private Entries published;
+    private int[] hashes;
+    private int[] references;
+    private int entries;
+    private int garbage;
+
+    private int[] table;
+
+    Utf8Arena() {
+        this(1024, 64);
+    }
+
+    private Utf8Arena(final int capacity, final int entryCapacity) {
+        this.bytes = new byte[capacity];
+        this.offsets = new int[entryCapacity];
+        this.lengths = new int[entryCapacity];
+        this.hashes = new int[entryCapacity];
+        this.references = new int[entryCapacity];
+        this.published = new Entries(this.bytes, this.offsets, this.lengths);
+        this.table = new int[tableSizeFor(entryCapacity)];
+    }
+
+    int intern(final String value) {
+        if (value == null) {
+            return NONE;
+        }
+
+        final var encoded = value.getBytes(StandardCharsets.UTF_8);
+        return intern(encoded, 0, encoded.length);
+    }
+
+    void release(final int ref) {
+        if (ref != NONE && --this.references[ref] == 0) {
+            this.garbage += this.lengths[ref];
+        }
+    }
+
+    String string(final int ref) {
+        if (ref == NONE) {
+            return null;
+        }
+
+        final var entries = this.published;
+        return new String(entries.bytes(), entries.offsets()[ref], entries.lengths()[ref], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Byte-wise comparison of the UTF-8 encodings, which orders by code point like an Elasticsearch keyword sort.
+     * Absent strings sort first.
+     */
+    int compare(final int one, final int other) {
+        if (one == other) {
+            return 0;
+        }
+        if (one == NONE || other == NONE) {
+            return one == NONE ? -1 : 1;
+        }
+
+        return Arrays.compareUnsigned(
+                this.bytes, this.offsets[one], this.offsets[one] + this.lengths[one],
+                this.bytes, this.offsets[other], this.offsets[other] + this.lengths[other]
+        );
+    }
+
+    boolean needsCompaction() {
+        return this.garbage > MIN_GARBAGE_TO_COMPACT && this.garbage > this.used / 2;
+    }
+
+    /**
+     * Copies one entry into another arena, used to rebuild a compacted arena reference by reference.
+     */
+    int copyTo(final Utf8Arena target, final int ref) {
+        return ref == NONE ? NONE : target.intern(this.bytes, this.offsets[ref], this.lengths[ref]);
+    }
+
+    Utf8Arena emptyCopy() {
+        final var live = this.used - this.garbage;
+        return new Utf8Arena(Math.max(1024, live + live / 4), 64);
+    }
+
+    private int intern(final byte[] source, final int offset, final int length) {
+        final var hash = hash(source, offset, length);
+        final var mask = this.table.length - 1;
+
+        var index = hash & mask;
+        while (this.table[index] != 0) {
+            final var ref = this.table[index] - 1;
+            if (this.hashes[ref] == hash && Arrays.equals(this.bytes, this.offsets[ref], this.offsets[ref] + this.lengths[ref], source, offset, offset + length)) {
+                if (this.references[ref]++ == 0) {
+                    this.garbage -= length;
+                }
+                return ref;
+            }
+            index = (index + 1) & mask;
+        }
+
+        final var ref = append(source, offset, length, hash);
+        this.table[index] = ref + 1;
+
+        if (this.entries * 4 > this.table.length * 3) {
+            rehash();
+        }
+        return ref;
+    }
+
+    private int append(final byte[] source, final int offset, final int length, final int hash) {
+        var grown = false;
+        if (this.used + length > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.used + length));
+            grown = true;
+        }
+        System.arraycopy(source, offset, this.bytes, this.used, length);
+
+        if (this.entries == this.offsets.length) {
+            final var capacity = this.entries * 2;
+            this.offsets = Arrays.copyOf(this.offsets, capacity);
+            this.lengths = Arrays.copyOf(this.lengths, capacity);
+            this.hashes = Arrays.copyOf(this.hashes, capacity);
+            this.references = Arrays.copyOf(this.references, capacity);
+            grown = true;
+        }
+
+        if (grown) {
+            // readers only follow final fields, so they see the copied arrays fully initialized
+            this.published = new Entries(this.bytes, this.offsets, this.lengths);
+        }
+
+        final var ref = this.entries++;
+        this.offsets[ref] = this.used;
+        this.lengths[ref] = length;
+        this.hashes[ref] = hash;
+        this.references[ref] = 1;
+        this.used += length;
+        return ref;
+    }
+
+    private void rehash() {
+        this.table = new int[this.table.length * 2];
+        final var mask = this.table.length - 1;
+
+        for (int ref = 0; ref < this.entries; ref++) {
+            var index = this.hashes[ref] & mask;
+            while (this.table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            this.table[index] = ref + 1;
+        }
+    }
+
+    private static int hash(final byte[] source, final int offset, final int length) {
+        var hash = 1;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + source[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(final int entries) {
+        return Integer.highestOneBit(Math.max(entries * 2 - 1, 16)) << 1;
+    }
+
+    private record Entries(byte[] bytes, int[] offsets, int[] lengths) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.studies.catalog.infrastructure.category.models;
+
+import com.studies.catalog.domain.category.Category;
+
+/**
+ * A change streamed to subscribers. {@link Type#RESYNC} tells a subscriber it fell too far behind and missed changes,
+ * it should reload what it shows before applying the next ones.
+ */
+public record CategoryChangeEvent(Type type, String id, Category category) {
+
+    private static final CategoryChangeEvent RESYNC = new CategoryChangeEvent(Type.RESYNC, null, null);
+
+    public static CategoryChangeEvent upsert(final Category aCategory) {
+        return new CategoryChangeEvent(Type.UPSERT, aCategory.id(), aCategory);
+    }
+
+    public static CategoryChangeEvent delete(final String anId) {
+        return new CategoryChangeEvent(Type.DELETE, anId, null);
+    }
+
+    public static CategoryChangeEvent resync() {
+        return RESYNC;
+    }
+
+    public enum Type {
+        UPSERT,
+        DELETE,
+        RESYNC
+    }
+}
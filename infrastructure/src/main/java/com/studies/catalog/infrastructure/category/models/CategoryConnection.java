@@ -0,0 +1,21 @@
+package com.studies.catalog.infrastructure.category.models;
+
+import com.studies.catalog.application.category.list.ListCategoryOutput;
+import com.studies.catalog.domain.pagination.Pagination;
+
+import java.util.List;
+
+public record CategoryConnection(
+        List<ListCategoryOutput> nodes,
+        PageInfo pageInfo,
+        long totalCount
+) {
+
+    public static CategoryConnection from(final Pagination<ListCategoryOutput> aPage) {
+        final var nextCursor = aPage.meta().nextCursor();
+        return new CategoryConnection(aPage.data(), new PageInfo(nextCursor, nextCursor != null), aPage.meta().total());
+    }
+
+    public record PageInfo(String endCursor, boolean hasNextPage) {
+    }
+}
@@ -1,8 +1,73 @@
 package com.studies.catalog.infrastructure.category.models;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.studies.catalog.domain.category.Category;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Row image of adm_videos.categories as emitted by Debezium. DATETIME(6) columns arrive as microseconds since epoch.
+ */
 public record CategoryEvent(
-        @JsonProperty("id") String id
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("created_at") Long createdAt,
+        @JsonProperty("updated_at") Long updatedAt,
+        @JsonProperty("deleted_at") Long deletedAt
 ) {
+
+    @JsonCreator
+    public CategoryEvent {
+    }
+
+    public CategoryEvent(final String id) {
+        this(id, null, null, null, null, null, null);
+    }
+
+    public static CategoryEvent from(final Category aCategory) {
+        return new CategoryEvent(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.active(),
+                toMicros(aCategory.createdAt()),
+                toMicros(aCategory.updatedAt()),
+                toMicros(aCategory.deletedAt())
+        );
+    }
+
+    public Optional<Category> toCategory() {
+        if (id == null || name == null || active == null || createdAt == null || updatedAt == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Category.with(
+                id,
+                name,
+                description,
+                active,
+                toInstant(createdAt),
+                toInstant(updatedAt),
+                toInstant(deletedAt)
+        ));
+    }
+
+    private static Instant toInstant(final Long micros) {
+        if (micros == null) {
+            return null;
+        }
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private static Long toMicros(final Instant instant) {
+        if (instant == null) {
+            return null;
+        }
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
 }
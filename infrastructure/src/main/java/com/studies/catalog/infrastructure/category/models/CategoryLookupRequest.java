@@ -0,0 +1,10 @@
+package com.studies.catalog.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CategoryLookupRequest(
+        @JsonProperty("ids") List<String> ids
+) {
+}
@@ -7,18 +7,32 @@ import org.springframework.data.elasticsearch.annotations.*;
 import java.time.Instant;
 
 @Document(indexName = "categories")
+@Setting(settingPath = "/elasticsearch/categories-settings.json")
 public class CategoryDocument {
 
+    public static final String TEXT_ANALYZER = "category_text";
+    public static final String PORTUGUESE_ANALYZER = "category_portuguese";
+
     @Id
+    @Field(type = FieldType.Keyword, name = "id")
     private String id;
 
     @MultiField(
-            mainField = @Field(type = FieldType.Text, name = "name"),
-            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
+            mainField = @Field(type = FieldType.Text, name = "name", analyzer = TEXT_ANALYZER),
+            otherFields = {
+                    @InnerField(suffix = "keyword", type = FieldType.Keyword),
+                    @InnerField(suffix = "pt", type = FieldType.Text, analyzer = PORTUGUESE_ANALYZER),
+                    @InnerField(suffix = "suggest", type = FieldType.Search_As_You_Type, analyzer = TEXT_ANALYZER)
+            }
     )
     private String name;
 
-    @Field(type = FieldType.Text, name = "description")
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, name = "description", analyzer = TEXT_ANALYZER),
+            otherFields = {
+                    @InnerField(suffix = "pt", type = FieldType.Text, analyzer = PORTUGUESE_ANALYZER)
+            }
+    )
     private String description;
 
     @Field(type = FieldType.Boolean, name = "active")
@@ -33,6 +47,9 @@ public class CategoryDocument {
     @Field(type = FieldType.Date, name = "deleted_at")
     private Instant deletedAt;
 
+    @Field(type = FieldType.Long, name = "source_version")
+    private Long sourceVersion;
+
     public CategoryDocument(
             final String id,
             final String name,
@@ -52,7 +69,11 @@ public class CategoryDocument {
     }
 
     public static CategoryDocument from(final Category aCategory) {
-        return new CategoryDocument(
+        return from(aCategory, null);
+    }
+
+    public static CategoryDocument from(final Category aCategory, final Long aSourceVersion) {
+        final var document = new CategoryDocument(
                 aCategory.id(),
                 aCategory.name(),
                 aCategory.description(),
@@ -61,6 +82,8 @@ public class CategoryDocument {
                 aCategory.updatedAt(),
                 aCategory.deletedAt()
         );
+        document.setSourceVersion(aSourceVersion);
+        return document;
     }
 
     public Category toCategory() {
@@ -130,4 +153,12 @@ public class CategoryDocument {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long sourceVersion() {
+        return sourceVersion;
+    }
+
+    public void setSourceVersion(Long sourceVersion) {
+        this.sourceVersion = sourceVersion;
+    }
 }
@@ -0,0 +1,34 @@
+package com.studies.catalog.infrastructure.configuration;
+
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.elasticsearch.client.RestClientBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.elasticsearch.RestClientBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ElasticsearchConfig {
+
+    /**
+     * The low level client keeps 10 connections per node by default, which would cap the searches the reactive
+     * gateway has in flight no matter how few threads wait on them.
+     */
+    @Bean
+    RestClientBuilderCustomizer connectionPoolCustomizer(
+            @Value("${elasticsearch.max-connections}") final int maxConnections,
+            @Value("${elasticsearch.max-connections-per-node}") final int maxConnectionsPerNode
+    ) {
+        return new RestClientBuilderCustomizer() {
+
+            @Override
+            public void customize(final RestClientBuilder builder) {
+            }
+
+            @Override
+            public void customize(final HttpAsyncClientBuilder builder) {
+                builder.setMaxConnTotal(maxConnections).setMaxConnPerRoute(maxConnectionsPerNode);
+            }
+        };
+    }
+}
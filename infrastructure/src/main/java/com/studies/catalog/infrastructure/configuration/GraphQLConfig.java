@@ -0,0 +1,28 @@
+package com.studies.catalog.infrastructure.configuration;
+
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLLimitsProperties;
+import com.studies.catalog.infrastructure.graphql.CachedDocumentProvider;
+import com.studies.catalog.infrastructure.graphql.QueryCostInstrumentation;
+import com.studies.catalog.infrastructure.graphql.QueryLimitsInterceptor;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GraphQLConfig {
+
+    @Bean
+    GraphQlSourceBuilderCustomizer documentCacheCustomizer(final CachedDocumentProvider documentProvider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(documentProvider));
+    }
+
+    @Bean
+    QueryCostInstrumentation queryCostInstrumentation(final GraphQLLimitsProperties properties) {
+        return new QueryCostInstrumentation(properties);
+    }
+
+    @Bean
+    QueryLimitsInterceptor queryLimitsInterceptor(final GraphQLLimitsProperties properties) {
+        return new QueryLimitsInterceptor(properties);
+    }
+}
@@ -1,15 +1,25 @@
 package com.studies.catalog.infrastructure.configuration;
 
+import com.studies.catalog.infrastructure.configuration.properties.CategoryConsumerProperties;
 import com.studies.catalog.infrastructure.configuration.properties.KafkaProperties;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,10 +27,16 @@ import java.util.Map;
 @Configuration
 public class KafkaConfig {
 
+    private static final long REPLICA_IDLE_INTERVAL_MS = 1_000;
+    private static final long REPLICA_RETRY_INITIAL_INTERVAL_MS = 500;
+    private static final long REPLICA_RETRY_MAX_INTERVAL_MS = 30_000;
+
     private final KafkaProperties properties;
+    private final CategoryConsumerProperties categoryProperties;
 
-    public KafkaConfig(final KafkaProperties props) {
+    public KafkaConfig(final KafkaProperties props, final CategoryConsumerProperties categoryProps) {
         this.properties = props;
+        this.categoryProperties = categoryProps;
     }
 
     @Bean
@@ -28,13 +44,72 @@ public class KafkaConfig {
         final var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
         factory.setConsumerFactory(consumerFactory());
         factory.getContainerProperties().setPollTimeout(properties.poolTimeout());
+        factory.setContainerCustomizer(container -> {
+            // in batch mode the main topic is drained by the batch listener, only the retry topics stay record based
+            if (categoryProperties.batchEnabled() && categoryProperties.id().equals(container.getListenerId())) {
+                container.setAutoStartup(false);
+            }
+        });
         return factory;
     }
 
+    @Bean
+    KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, byte[]>> kafkaBatchListenerFactory() {
+        final var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(byteArrayConsumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setPollTimeout(properties.poolTimeout());
+        return factory;
+    }
+
+    @Bean
+    KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, byte[]>> kafkaReplicaListenerFactory() {
+        final var props = consumerConfigs();
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        // replicas seek to their own positions on every start, nothing is ever committed for them
+        final var factory = new ConcurrentKafkaListenerContainerFactory<String, byte[]>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setPollTimeout(properties.poolTimeout());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        // idle containers hand their positions to the replica listener, catching up is seen without new records
+        factory.getContainerProperties().setIdleEventInterval(REPLICA_IDLE_INTERVAL_MS);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(replicaRetryBackOff()));
+        return factory;
+    }
+
+    @Bean
+    KafkaTemplate<String, String> kafkaTemplate() {
+        return new KafkaTemplate<>(producerFactory());
+    }
+
+    /**
+     * A replica has nowhere to send a batch it failed to apply, and a skipped one would be missing from it for good:
+     * the batch is redelivered with growing pauses until it goes through, the recoverer is never reached.
+     */
+    private static ExponentialBackOff replicaRetryBackOff() {
+        final var backOff = new ExponentialBackOff(REPLICA_RETRY_INITIAL_INTERVAL_MS, ExponentialBackOff.DEFAULT_MULTIPLIER);
+        backOff.setMaxInterval(REPLICA_RETRY_MAX_INTERVAL_MS);
+        backOff.setMaxElapsedTime(Long.MAX_VALUE);
+        return backOff;
+    }
+
     private ConsumerFactory<String, Object> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerConfigs());
     }
 
+    private ConsumerFactory<String, byte[]> byteArrayConsumerFactory() {
+        final var props = consumerConfigs();
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    private ProducerFactory<String, String> producerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigs());
+    }
+
     private Map<String, Object> consumerConfigs() {
         final var props = new HashMap<String, Object>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, properties.bootstrapServers());
@@ -43,4 +118,12 @@ public class KafkaConfig {
         props.put(ConsumerConfig.ALLOW_AUTO_CREATE_TOPICS_CONFIG, properties.autoCreateTopics());
         return props;
     }
+
+    private Map<String, Object> producerConfigs() {
+        final var props = new HashMap<String, Object>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, properties.bootstrapServers());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        return props;
+    }
 }
@@ -44,6 +44,7 @@ public class SecurityConfig {
                         .requestMatchers("/categories*").hasAnyRole(ROLE_ADMIN, ROLE_CATEGORIES)
                         .requestMatchers("/genres*").hasAnyRole(ROLE_ADMIN, ROLE_GENRES)
                         .requestMatchers("/videos*").hasAnyRole(ROLE_ADMIN, ROLE_VIDEOS)
+                        .requestMatchers("/graphql").hasAnyRole(ROLE_ADMIN, ROLE_CATEGORIES)
                         .anyRequest().hasRole(ROLE_ADMIN))
                 .oauth2ResourceServer(oauth -> oauth.jwt()
                         .jwtAuthenticationConverter(new KeycloakJwtConverter()))
@@ -0,0 +1,69 @@
+package com.studies.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "kafka.consumers.categories")
+public class CategoryConsumerProperties {
+
+    private String id;
+
+    private String groupId;
+
+    private String topics;
+
+    private boolean batchEnabled;
+
+    private int workers = 1;
+
+    private boolean trustPayload;
+
+    public String id() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String groupId() {
+        return groupId;
+    }
+
+    public void setGroupId(String groupId) {
+        this.groupId = groupId;
+    }
+
+    public String topics() {
+        return topics;
+    }
+
+    public void setTopics(String topics) {
+        this.topics = topics;
+    }
+
+    public boolean batchEnabled() {
+        return batchEnabled;
+    }
+
+    public void setBatchEnabled(boolean batchEnabled) {
+        this.batchEnabled = batchEnabled;
+    }
+
+    public int workers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public boolean trustPayload() {
+        return trustPayload;
+    }
+
+    public void setTrustPayload(boolean trustPayload) {
+        this.trustPayload = trustPayload;
+    }
+}
@@ -0,0 +1,39 @@
+package com.studies.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "feed.categories")
+public class CategoryFeedProperties {
+
+    private boolean enabled;
+
+    private int capacity = 8_192;
+
+    private int maxLag = 2_048;
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int maxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(int maxLag) {
+        this.maxLag = maxLag;
+    }
+}
@@ -0,0 +1,41 @@
+package com.studies.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.categories.lookup")
+public class CategoryLookupCacheProperties {
+
+    private long maxSize = 10_000;
+
+    private Duration ttl = Duration.ofSeconds(60);
+
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    public long maxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration negativeTtl() {
+        return negativeTtl;
+    }
+
+    public void setNegativeTtl(Duration negativeTtl) {
+        this.negativeTtl = negativeTtl;
+    }
+}
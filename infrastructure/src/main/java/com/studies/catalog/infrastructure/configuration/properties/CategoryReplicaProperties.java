@@ -0,0 +1,91 @@
+package com.studies.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "replica.categories")
+public class CategoryReplicaProperties {
+
+    private boolean enabled = false;
+
+    private int batchSize = 1_000;
+
+    private Duration consistencyCheckInterval = Duration.ofMinutes(1);
+
+    private Duration catchUpTimeout = Duration.ofMinutes(1);
+
+    private Duration deletesRetention = Duration.ofMinutes(1);
+
+    private boolean snapshotEnabled = false;
+
+    private String snapshotPath = "data/categories.snapshot";
+
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration consistencyCheckInterval() {
+        return consistencyCheckInterval;
+    }
+
+    public void setConsistencyCheckInterval(Duration consistencyCheckInterval) {
+        this.consistencyCheckInterval = consistencyCheckInterval;
+    }
+
+    public Duration catchUpTimeout() {
+        return catchUpTimeout;
+    }
+
+    public void setCatchUpTimeout(Duration catchUpTimeout) {
+        this.catchUpTimeout = catchUpTimeout;
+    }
+
+    public Duration deletesRetention() {
+        return deletesRetention;
+    }
+
+    public void setDeletesRetention(Duration deletesRetention) {
+        this.deletesRetention = deletesRetention;
+    }
+
+    public boolean snapshotEnabled() {
+        return snapshotEnabled;
+    }
+
+    public void setSnapshotEnabled(boolean snapshotEnabled) {
+        this.snapshotEnabled = snapshotEnabled;
+    }
+
+    public String snapshotPath() {
+        return snapshotPath;
+    }
+
+    public void setSnapshotPath(String snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    public Duration snapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public void setSnapshotInterval(Duration snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+}
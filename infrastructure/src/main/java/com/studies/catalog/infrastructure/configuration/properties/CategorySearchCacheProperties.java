@@ -0,0 +1,42 @@
+package com.studies.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.categories.search")
+public class CategorySearchCacheProperties {
+
+    private long maxSize = 1_000;
+
+    private Duration ttl = Duration.ofSeconds(10);
+
+    // the categories index refresh interval, writes only become searchable after it
+    private Duration refreshInterval = Duration.ofSeconds(1);
+
+    public long maxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration refreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+}
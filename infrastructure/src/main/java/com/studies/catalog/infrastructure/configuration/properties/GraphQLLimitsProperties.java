@@ -0,0 +1,73 @@
+package com.studies.catalog.infrastructure.configuration.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "graphql.limits")
+public class GraphQLLimitsProperties {
+
+    private Limits defaults = new Limits(1_000, 6);
+
+    private Map<String, Limits> roles = new HashMap<>();
+
+    private Map<String, Integer> fieldCosts = new HashMap<>();
+
+    private int maxPageSize = 100;
+
+    public Limits defaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Limits defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Limits> roles() {
+        return roles;
+    }
+
+    public void setRoles(Map<String, Limits> roles) {
+        this.roles = roles;
+    }
+
+    public Map<String, Integer> fieldCosts() {
+        return fieldCosts;
+    }
+
+    public void setFieldCosts(Map<String, Integer> fieldCosts) {
+        this.fieldCosts = fieldCosts;
+    }
+
+    public int maxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * The most generous limits among the given roles, the defaults when none of them is configured.
+     */
+    public Limits limitsFor(final Collection<String> someRoles) {
+        Limits limits = null;
+        for (final var role : someRoles) {
+            final var roleLimits = this.roles.get(role);
+            if (roleLimits != null) {
+                limits = limits == null ? roleLimits : new Limits(
+                        Math.max(limits.maxCost(), roleLimits.maxCost()),
+                        Math.max(limits.maxDepth(), roleLimits.maxDepth())
+                );
+            }
+        }
+        return limits != null ? limits : this.defaults;
+    }
+
+    public record Limits(long maxCost, int maxDepth) {
+    }
+}
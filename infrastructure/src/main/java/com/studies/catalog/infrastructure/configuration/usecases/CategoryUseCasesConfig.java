@@ -1,8 +1,11 @@
 package com.studies.catalog.infrastructure.configuration.usecases;
 
+import com.studies.catalog.application.category.bulk.BulkCategoryUseCase;
 import com.studies.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.studies.catalog.application.category.get.GetCategoriesByIdUseCase;
 import com.studies.catalog.application.category.list.ListCategoryUseCase;
 import com.studies.catalog.application.category.save.SaveCategoryUseCase;
+import com.studies.catalog.application.category.suggest.SuggestCategoriesUseCase;
 import com.studies.catalog.domain.category.CategoryGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,11 +21,21 @@ public class CategoryUseCasesConfig {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
     }
 
+    @Bean
+    BulkCategoryUseCase bulkCategoryUseCase() {
+        return new BulkCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DeleteCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    GetCategoriesByIdUseCase getCategoriesByIdUseCase() {
+        return new GetCategoriesByIdUseCase(categoryGateway);
+    }
+
     @Bean
     ListCategoryUseCase listCategoryUseCase() {
         return new ListCategoryUseCase(categoryGateway);
@@ -32,4 +45,9 @@ public class CategoryUseCasesConfig {
     SaveCategoryUseCase saveCategoryUseCase() {
         return new SaveCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        return new SuggestCategoriesUseCase(categoryGateway);
+    }
 }
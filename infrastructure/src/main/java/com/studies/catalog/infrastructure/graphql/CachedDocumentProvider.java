@@ -0,0 +1,61 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLDocumentCacheProperties;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Keeps parsed and validated documents by the hash of their query text, so a repeated operation goes straight to
+ * execution. Documents that failed parsing or validation are not kept, they would only crowd out valid ones.
+ */
+@Component
+public class CachedDocumentProvider implements PreparsedDocumentProvider {
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+
+    public CachedDocumentProvider(final GraphQLDocumentCacheProperties properties, final MeterRegistry meterRegistry) {
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.documents, "graphql.documents");
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public PreparsedDocumentEntry getDocument(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        final var key = QueryHash.of(executionInput.getQuery());
+
+        final var cached = this.documents.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var entry = parseAndValidateFunction.apply(executionInput);
+        if (!entry.hasErrors()) {
+            this.documents.put(key, entry);
+        }
+        return entry;
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        return CompletableFuture.completedFuture(getDocument(executionInput, parseAndValidateFunction));
+    }
+}
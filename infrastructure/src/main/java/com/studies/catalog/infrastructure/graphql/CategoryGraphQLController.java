@@ -1,43 +1,112 @@
 package com.studies.catalog.infrastructure.graphql;
 
+import com.studies.catalog.application.category.get.GetCategoriesByIdUseCase;
 import com.studies.catalog.application.category.list.ListCategoryOutput;
 import com.studies.catalog.application.category.list.ListCategoryUseCase;
 import com.studies.catalog.application.category.save.SaveCategoryUseCase;
+import com.studies.catalog.application.category.suggest.SuggestCategoriesUseCase;
 import com.studies.catalog.domain.category.Category;
 import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+import com.studies.catalog.domain.pagination.Pagination;
+import com.studies.catalog.infrastructure.category.models.CategoryConnection;
 import com.studies.catalog.infrastructure.category.models.CategoryDTO;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Controller
 public class CategoryGraphQLController {
 
     private final ListCategoryUseCase listCategoryUseCase;
     private final SaveCategoryUseCase saveCategoryUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
+    private final GetCategoriesByIdUseCase getCategoriesByIdUseCase;
 
-    public CategoryGraphQLController(final ListCategoryUseCase listCategoryUseCase, SaveCategoryUseCase saveCategoryUseCase) {
+    public CategoryGraphQLController(
+            final ListCategoryUseCase listCategoryUseCase,
+            final SaveCategoryUseCase saveCategoryUseCase,
+            final SuggestCategoriesUseCase suggestCategoriesUseCase,
+            final GetCategoriesByIdUseCase getCategoriesByIdUseCase,
+            final BatchLoaderRegistry batchLoaderRegistry
+    ) {
         this.listCategoryUseCase = Objects.requireNonNull(listCategoryUseCase);
         this.saveCategoryUseCase = Objects.requireNonNull(saveCategoryUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
+        this.getCategoriesByIdUseCase = Objects.requireNonNull(getCategoriesByIdUseCase);
+
+        // one loader per request: the ids of every category field are deduplicated and fetched in one call
+        batchLoaderRegistry.forTypePair(String.class, Category.class)
+                .registerMappedBatchLoader((ids, env) -> Mono.fromFuture(() -> this.getCategoriesByIdUseCase.executeAsync(ids))
+                        .map(CategoryGraphQLController::byId));
     }
 
     @QueryMapping
-    public List<ListCategoryOutput> categories(
+    public CompletableFuture<Category> category(@Argument final String id, final DataLoader<String, Category> categories) {
+        return categories.load(id);
+    }
+
+    @QueryMapping
+    public CompletableFuture<List<Category>> categoriesByIds(
+            @Argument final List<String> ids,
+            final DataLoader<String, Category> categories
+    ) {
+        return categories.loadMany(ids);
+    }
+
+    @QueryMapping
+    public Mono<List<ListCategoryOutput>> categories(
             @Argument final String search,
             @Argument final int page,
             @Argument final int perPage,
             @Argument final String sort,
-            @Argument final String direction
+            @Argument final String direction,
+            final DataFetchingFieldSelectionSet selectionSet
     ) {
 
         final var aQuery =
-                new CategorySearchQuery(page, perPage, search, sort, direction);
+                new CategorySearchQuery(page, perPage, search, sort, direction)
+                        .withFields(selectedFields(selectionSet, "*"));
 
-        return this.listCategoryUseCase.execute(aQuery).data();
+        return Mono.fromFuture(() -> this.listCategoryUseCase.executeAsync(aQuery))
+                .map(Pagination::data);
+    }
+
+    @QueryMapping
+    public Mono<CategoryConnection> categoriesConnection(
+            @Argument final String search,
+            @Argument final int first,
+            @Argument final String after,
+            @Argument final String sort,
+            @Argument final String direction,
+            final DataFetchingFieldSelectionSet selectionSet
+    ) {
+
+        final var aQuery =
+                new CategorySearchQuery(0, first, search, sort, direction, after)
+                        .withFields(selectedFields(selectionSet, "nodes/*"));
+
+        return Mono.fromFuture(() -> this.listCategoryUseCase.executeAsync(aQuery))
+                .map(CategoryConnection::from);
+    }
+
+    @QueryMapping
+    public List<ListCategoryOutput> suggestCategories(@Argument final String prefix, @Argument final int limit) {
+        return this.suggestCategoriesUseCase.execute(new CategorySuggestionQuery(prefix, limit));
     }
 
     @MutationMapping
@@ -45,4 +114,15 @@ public class CategoryGraphQLController {
         return this.saveCategoryUseCase.execute(input.toCategory());
     }
 
+    private static Map<String, Category> byId(final List<Category> categories) {
+        return categories.stream()
+                .collect(Collectors.toMap(Category::id, Function.identity(), (one, other) -> one));
+    }
+
+    private static Set<String> selectedFields(final DataFetchingFieldSelectionSet selectionSet, final String glob) {
+        return selectionSet.getFields(glob).stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet());
+    }
+
 }
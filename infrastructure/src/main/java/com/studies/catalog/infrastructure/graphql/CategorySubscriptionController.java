@@ -0,0 +1,35 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.studies.catalog.infrastructure.category.CategoryChangeFeed;
+import com.studies.catalog.infrastructure.category.CategoryFeedFilter;
+import com.studies.catalog.infrastructure.category.models.CategoryChangeEvent;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Controller
+public class CategorySubscriptionController {
+
+    // events are read from the feed in small batches, a slow socket only holds back its own subscription
+    private static final int PREFETCH = 32;
+
+    private final CategoryChangeFeed changeFeed;
+
+    public CategorySubscriptionController(final CategoryChangeFeed changeFeed) {
+        this.changeFeed = Objects.requireNonNull(changeFeed);
+    }
+
+    @SubscriptionMapping
+    public Flux<CategoryChangeEvent> categoryChanged(@Argument final List<String> ids, @Argument final boolean activeOnly) {
+        final var filter = new CategoryFeedFilter(ids != null ? Set.copyOf(ids) : null, activeOnly);
+
+        // the listener thread publishing a change only hands it over, sockets are written from the parallel scheduler
+        return this.changeFeed.subscribe(filter).publishOn(Schedulers.parallel(), PREFETCH);
+    }
+}
@@ -0,0 +1,238 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLPersistedQueryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Automatic persisted queries as Apollo clients send them: a request may carry only the SHA-256 of its query in
+ * {@code extensions.persistedQuery.sha256Hash}. A known hash is replaced by its query text before the request reaches
+ * the GraphQL handler, an unknown one is answered with {@code PersistedQueryNotFound} so the client retries with the
+ * text and the hash, which registers it.
+ */
+@Component
+@ConditionalOnProperty(value = "cache.graphql.persisted-queries.enabled", havingValue = "true", matchIfMissing = true)
+public class PersistedQueryFilter extends OncePerRequestFilter {
+
+    private static final TypeReference<Map<String, Object>> DOCUMENT = new TypeReference<>() {
+    };
+
+    private static final String QUERY = "query";
+    private static final String EXTENSIONS = "extensions";
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String HASH = "sha256Hash";
+
+    private final Cache<String, String> queries;
+    private final String path;
+    private final int maxBodySize;
+
+    public PersistedQueryFilter(
+            final GraphQLPersistedQueryProperties properties,
+            final MeterRegistry meterRegistry,
+            @Value("${spring.graphql.path:/graphql}") final String path
+    ) {
+        this.queries = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterAccess(properties.ttl())
+                .recordStats()
+                .build();
+        this.path = Objects.requireNonNull(path);
+        this.maxBodySize = Math.toIntExact(properties.maxBodySize().toBytes());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.queries, "graphql.persisted-queries");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !this.path.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain
+    ) throws ServletException, IOException {
+        // the declared length may be missing or wrong, at most one byte past the limit is read to tell
+        final var body = request.getContentLengthLong() <= this.maxBodySize
+                ? request.getInputStream().readNBytes(this.maxBodySize + 1)
+                : null;
+        if (body == null || body.length > this.maxBodySize) {
+            writeError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "request body is too large", "PAYLOAD_TOO_LARGE");
+            return;
+        }
+
+        final var text = new String(body, StandardCharsets.UTF_8);
+
+        // most requests carry their full text, they are passed on without being parsed twice
+        final var document = text.contains(PERSISTED_QUERY) ? documentOf(text) : null;
+        final var hash = document != null ? hashOf(document) : null;
+        if (hash == null) {
+            filterChain.doFilter(new BodyRequest(request, body), response);
+            return;
+        }
+
+        if (!(document.get(QUERY) instanceof String query) || query.isBlank()) {
+            final var known = this.queries.getIfPresent(hash);
+            if (known == null) {
+                writeError(response, HttpServletResponse.SC_OK, "PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND");
+                return;
+            }
+
+            final var resolved = new HashMap<>(document);
+            resolved.put(QUERY, known);
+            filterChain.doFilter(new BodyRequest(request, Json.writeValueAsString(resolved).getBytes(StandardCharsets.UTF_8)), response);
+            return;
+        }
+
+        if (!hash.equals(QueryHash.of(query))) {
+            writeError(response, HttpServletResponse.SC_OK, "provided sha does not match query", "PERSISTED_QUERY_HASH_MISMATCH");
+            return;
+        }
+
+        this.queries.put(hash, query);
+        filterChain.doFilter(new BodyRequest(request, body), response);
+    }
+
+    private static Map<String, Object> documentOf(final String text) {
+        try {
+            return Json.readValue(text, DOCUMENT);
+        } catch (final RuntimeException ex) {
+            // malformed bodies are left to the GraphQL handler to reject
+            return null;
+        }
+    }
+
+    private static String hashOf(final Map<String, Object> document) {
+        if (document.get(EXTENSIONS) instanceof Map<?, ?> extensions
+                && extensions.get(PERSISTED_QUERY) instanceof Map<?, ?> persistedQuery
+                && persistedQuery.get(HASH) instanceof String hash) {
+            return hash;
+        }
+        return null;
+    }
+
+    private static void writeError(
+            final HttpServletResponse response,
+            final int status,
+            final String message,
+            final String code
+    ) throws IOException {
+        final var error = Map.of("message", message, EXTENSIONS, Map.of("code", code));
+
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(Json.writeValueAsString(Map.of("errors", List.of(error))));
+    }
+
+    /**
+     * The request with its body already read, or replaced by the resolved document.
+     */
+    private static final class BodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BodyRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final var input = new ByteArrayInputStream(this.body);
+            return new ServletInputStream() {
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener readListener) {
+                    // the whole body is already in memory, it is available at once and never blocks
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (final IOException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return this.body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return this.body.length;
+        }
+
+        @Override
+        public String getHeader(final String name) {
+            return HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) ? String.valueOf(this.body.length) : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(final String name) {
+            return HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                    ? Collections.enumeration(List.of(String.valueOf(this.body.length)))
+                    : super.getHeaders(name);
+        }
+    }
+}
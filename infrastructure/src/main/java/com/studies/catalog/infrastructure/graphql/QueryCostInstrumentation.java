@@ -0,0 +1,134 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLLimitsProperties;
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLLimitsProperties.Limits;
+import graphql.ExecutionResult;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Rejects an operation whose cost or depth exceeds the limits of the caller before any field is fetched. Every field
+ * costs one unless configured otherwise, times the number of items its enclosing lists may return, as told by their
+ * size arguments: {@code categories(perPage: 100) { id name }} costs 1 + 100 + 100. A size argument outside of
+ * {@code 1..graphql.limits.max-page-size} is rejected as well, whatever the cost.
+ */
+public class QueryCostInstrumentation extends SimplePerformantInstrumentation {
+
+    private static final List<String> SIZE_ARGUMENTS = List.of("perPage", "first", "limit");
+    private static final String IDS_ARGUMENT = "ids";
+    private static final String INTROSPECTION_PREFIX = "__";
+
+    private final GraphQLLimitsProperties properties;
+
+    public QueryCostInstrumentation(final GraphQLLimitsProperties properties) {
+        this.properties = Objects.requireNonNull(properties);
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+            final InstrumentationExecuteOperationParameters parameters,
+            final InstrumentationState state
+    ) {
+        final var context = parameters.getExecutionContext();
+        final Limits limits = context.getGraphQLContext().getOrDefault(Limits.class, this.properties.defaults());
+
+        final var cost = new Cost();
+        QueryTraverser.newQueryTraverser()
+                .schema(context.getGraphQLSchema())
+                .document(context.getDocument())
+                .operationName(context.getExecutionInput().getOperationName())
+                .coercedVariables(context.getCoercedVariables())
+                .build()
+                .visitPreOrder(cost);
+
+        if (cost.depth > limits.maxDepth()) {
+            throw new AbortExecutionException("Query depth %d exceeds the limit of %d".formatted(cost.depth, limits.maxDepth()));
+        }
+        if (cost.total > limits.maxCost()) {
+            throw new AbortExecutionException("Query cost %.0f exceeds the limit of %d".formatted(cost.total, limits.maxCost()));
+        }
+        if (cost.outOfRange != null) {
+            throw new AbortExecutionException(cost.outOfRange);
+        }
+
+        return super.beginExecuteOperation(parameters, state);
+    }
+
+    private final class Cost extends QueryVisitorStub {
+
+        // a double saturates where nested multipliers would overflow a long
+        private double total;
+        private int depth;
+        private String outOfRange;
+
+        @Override
+        public void visitField(final QueryVisitorFieldEnvironment env) {
+            if (isIntrospection(env)) {
+                return;
+            }
+            if (this.outOfRange == null) {
+                this.outOfRange = outOfRangeOf(env);
+            }
+
+            final var key = env.getFieldsContainer().getName() + "." + env.getFieldDefinition().getName();
+            this.total += properties.fieldCosts().getOrDefault(key, 1) * multiplierOf(env.getParentEnvironment());
+            this.depth = Math.max(this.depth, depthOf(env));
+        }
+
+        private String outOfRangeOf(final QueryVisitorFieldEnvironment env) {
+            final var maxPageSize = properties.maxPageSize();
+            for (final var name : SIZE_ARGUMENTS) {
+                if (env.getArguments().get(name) instanceof Number size
+                        && (size.longValue() < 1 || size.longValue() > maxPageSize)) {
+                    return "Argument '%s' of '%s' must be between 1 and %d, got %d"
+                            .formatted(name, env.getField().getName(), maxPageSize, size.longValue());
+                }
+            }
+            return null;
+        }
+
+        private static boolean isIntrospection(final QueryVisitorFieldEnvironment env) {
+            for (var current = env; current != null; current = current.getParentEnvironment()) {
+                if (current.getField().getName().startsWith(INTROSPECTION_PREFIX)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static double multiplierOf(final QueryVisitorFieldEnvironment env) {
+            return env == null ? 1 : multiplierOf(env.getParentEnvironment()) * sizeOf(env);
+        }
+
+        private static int sizeOf(final QueryVisitorFieldEnvironment env) {
+            final var arguments = env.getArguments();
+            if (arguments.get(IDS_ARGUMENT) instanceof Collection<?> ids) {
+                return ids.size();
+            }
+            for (final var name : SIZE_ARGUMENTS) {
+                if (arguments.get(name) instanceof Number size) {
+                    return Math.max(size.intValue(), 0);
+                }
+            }
+            return 1;
+        }
+
+        private static int depthOf(final QueryVisitorFieldEnvironment env) {
+            var depth = 0;
+            for (var current = env; current != null; current = current.getParentEnvironment()) {
+                depth++;
+            }
+            return depth;
+        }
+    }
+}
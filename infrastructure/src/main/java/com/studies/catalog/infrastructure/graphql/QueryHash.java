@@ -0,0 +1,24 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hex SHA-256 of a query text, the identifier automatic persisted query clients send instead of the text.
+ */
+final class QueryHash {
+
+    private QueryHash() {
+    }
+
+    static String of(final String query) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLLimitsProperties;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.graphql.server.WebGraphQlResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Resolves the cost limits of the caller from its roles and hands them to {@link QueryCostInstrumentation} through
+ * the GraphQL context, while the security context of the request is still at hand.
+ */
+public class QueryLimitsInterceptor implements WebGraphQlInterceptor {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final GraphQLLimitsProperties properties;
+
+    public QueryLimitsInterceptor(final GraphQLLimitsProperties properties) {
+        this.properties = Objects.requireNonNull(properties);
+    }
+
+    @Override
+    public Mono<WebGraphQlResponse> intercept(final WebGraphQlRequest request, final Chain chain) {
+        final var limits = this.properties.limitsFor(roles());
+        request.configureExecutionInput((input, builder) -> builder
+                .graphQLContext(Map.of(GraphQLLimitsProperties.Limits.class, limits))
+                .build());
+        return chain.next(request);
+    }
+
+    private static List<String> roles() {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return List.of();
+        }
+
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith(ROLE_PREFIX))
+                .map(authority -> authority.substring(ROLE_PREFIX.length()))
+                .toList();
+    }
+}
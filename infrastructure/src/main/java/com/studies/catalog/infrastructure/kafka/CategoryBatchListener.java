@@ -0,0 +1,182 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.application.category.bulk.BulkCategoryUseCase;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.infrastructure.category.CategoryChangeFeed;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryConsumerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(prefix = "kafka.consumers.categories", name = "batch-enabled", havingValue = "true")
+public class CategoryBatchListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryBatchListener.class);
+    private static final String FIRST_RETRY_SUFFIX = "-retry-0";
+
+    private final CategoryResolver categoryResolver;
+    private final BulkCategoryUseCase bulkCategoryUseCase;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final CategoryChangeFeed changeFeed;
+    private final Counter collapsedCounter;
+    private final KeyOrderedExecutor workers;
+
+    public CategoryBatchListener(
+            final CategoryResolver categoryResolver,
+            final BulkCategoryUseCase bulkCategoryUseCase,
+            final KafkaTemplate<String, String> kafkaTemplate,
+            final CategoryChangeFeed changeFeed,
+            final MeterRegistry meterRegistry,
+            final CategoryConsumerProperties properties
+    ) {
+        this.categoryResolver = Objects.requireNonNull(categoryResolver);
+        this.bulkCategoryUseCase = Objects.requireNonNull(bulkCategoryUseCase);
+        this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate);
+        this.changeFeed = Objects.requireNonNull(changeFeed);
+        this.workers = new KeyOrderedExecutor(properties.workers(), "category-worker-");
+        this.collapsedCounter = Counter.builder("catalog.kafka.categories.collapsed")
+                .description("Records superseded by a later record for the same category within a poll")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            concurrency = "${kafka.consumers.categories.concurrency}",
+            containerFactory = "kafkaBatchListenerFactory",
+            topics = "${kafka.consumers.categories.topics}",
+            groupId = "${kafka.consumers.categories.group-id}",
+            id = "${kafka.consumers.categories.id}-batch",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.categories.auto-offset-reset}",
+                    "max.poll.records=${kafka.consumers.categories.max-poll-records}"
+            }
+    )
+    public void onMessages(final List<ConsumerRecord<String, byte[]>> records) {
+        LOG.info("Batch received from Kafka [records:{}]", records.size());
+
+        final var failed = new ArrayList<ConsumerRecord<String, byte[]>>();
+        final var messages = new ArrayList<CategoryMessage>(records.size());
+
+        for (final var record : records) {
+            if (record.value() == null) {
+                continue;
+            }
+
+            try {
+                messages.add(CategoryMessage.from(record));
+            } catch (final Exception ex) {
+                LOG.warn("Failed to decode message [topic:{}] [partition:{}] [offset:{}]", record.topic(), record.partition(), record.offset(), ex);
+                failed.add(record);
+            }
+        }
+
+        final var compacted = CategoryMessageCompactor.compact(messages);
+        this.collapsedCounter.increment(messages.size() - compacted.size());
+
+        final var lookups = lookUp(compacted);
+        final var changes = new ArrayList<CategoryChange>(compacted.size());
+        final var origins = new IdentityHashMap<CategoryChange, ConsumerRecord<String, byte[]>>(compacted.size());
+
+        for (final var message : compacted) {
+            try {
+                final var change = toChange(message, lookups);
+                if (change != null) {
+                    changes.add(change);
+                    origins.put(change, message.record());
+                }
+            } catch (final CompletionException ex) {
+                LOG.warn("Failed to process category {}", message.id(), ex.getCause());
+                failed.add(message.record());
+            }
+        }
+
+        final var output = this.bulkCategoryUseCase.execute(changes);
+        final var rejected = Collections.newSetFromMap(new IdentityHashMap<CategoryChange, Boolean>());
+        rejected.addAll(output.failed());
+
+        changes.stream()
+                .filter(rejected::contains)
+                .map(origins::get)
+                .forEach(failed::add);
+
+        // changes the index discarded as stale are not news for the feed either
+        final var unapplied = Collections.newSetFromMap(new IdentityHashMap<CategoryChange, Boolean>());
+        unapplied.addAll(rejected);
+        unapplied.addAll(output.discarded());
+        this.changeFeed.publish(changes.stream().filter(change -> !unapplied.contains(change)).toList());
+
+        LOG.info("Batch applied to Elasticsearch [collapsed:{}] [applied:{}] [failed:{}]",
+                messages.size() - compacted.size(), output.applied(), failed.size());
+
+        forwardToRetry(failed);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.workers.close();
+    }
+
+    private Map<String, CompletableFuture<Map<String, Category>>> lookUp(final List<CategoryMessage> messages) {
+        final var upsertsByLane = messages.stream()
+                .filter(message -> !message.isDelete())
+                .collect(Collectors.groupingBy(message -> this.workers.laneOf(message.id())));
+
+        final var lookups = new HashMap<String, CompletableFuture<Map<String, Category>>>();
+        upsertsByLane.values().forEach(upserts -> {
+            final var lookup = this.workers.submit(upserts.get(0).id(), () -> this.categoryResolver.resolve(upserts));
+            upserts.forEach(message -> lookups.put(message.id(), lookup));
+        });
+
+        return lookups;
+    }
+
+    private CategoryChange toChange(
+            final CategoryMessage message,
+            final Map<String, CompletableFuture<Map<String, Category>>> lookups
+    ) {
+        if (message.isDelete()) {
+            return CategoryChange.delete(message.id(), message.version());
+        }
+
+        final var category = lookups.get(message.id()).join().get(message.id());
+        if (category == null) {
+            LOG.warn("Category was not found {}", message.id());
+            return null;
+        }
+
+        return CategoryChange.save(category, message.version());
+    }
+
+    private void forwardToRetry(final List<ConsumerRecord<String, byte[]>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        final var sends = records.stream()
+                .map(record -> this.kafkaTemplate.send(new ProducerRecord<>(record.topic() + FIRST_RETRY_SUFFIX, record.key(), new String(record.value(), StandardCharsets.UTF_8))))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(sends).join();
+    }
+}
@@ -0,0 +1,169 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.studies.catalog.infrastructure.category.models.CategoryEvent;
+import com.studies.catalog.infrastructure.kafka.connect.Operation;
+import com.studies.catalog.infrastructure.kafka.connect.Source;
+import com.studies.catalog.infrastructure.kafka.connect.ValuePayload;
+
+import java.io.IOException;
+
+/**
+ * Streaming decoder for the Debezium envelope of adm_videos.categories. Reads only {@code op}, {@code before.id},
+ * {@code after.*} and {@code source.ts_ms}; every other subtree, the schema block included, is skipped by the parser.
+ */
+public final class CategoryEnvelopeDecoder {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private CategoryEnvelopeDecoder() {
+    }
+
+    public static ValuePayload<CategoryEvent> decode(final byte[] value) {
+        try (final var parser = FACTORY.createParser(value)) {
+            return readEnvelope(parser);
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException("Invalid category envelope", ex);
+        }
+    }
+
+    public static ValuePayload<CategoryEvent> decode(final String value) {
+        try (final var parser = FACTORY.createParser(value)) {
+            return readEnvelope(parser);
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException("Invalid category envelope", ex);
+        }
+    }
+
+    private static ValuePayload<CategoryEvent> readEnvelope(final JsonParser parser) throws IOException {
+        expectObject(parser.nextToken(), parser);
+
+        ValuePayload<CategoryEvent> payload = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.currentName();
+            final var token = parser.nextToken();
+
+            if ("payload".equals(field) && token == JsonToken.START_OBJECT) {
+                payload = readPayload(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (payload == null) {
+            throw new IllegalArgumentException("Category envelope without payload");
+        }
+
+        return payload;
+    }
+
+    private static ValuePayload<CategoryEvent> readPayload(final JsonParser parser) throws IOException {
+        CategoryEvent before = null;
+        CategoryEvent after = null;
+        Source source = null;
+        Operation operation = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.currentName();
+            final var token = parser.nextToken();
+
+            switch (field) {
+                case "before" -> before = token == JsonToken.START_OBJECT ? readBefore(parser) : null;
+                case "after" -> after = token == JsonToken.START_OBJECT ? readAfter(parser) : null;
+                case "source" -> source = token == JsonToken.START_OBJECT ? readSource(parser) : null;
+                case "op" -> operation = token == JsonToken.VALUE_STRING ? Operation.of(parser.getText()) : null;
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new ValuePayload<>(after, before, source, operation);
+    }
+
+    private static CategoryEvent readBefore(final JsonParser parser) throws IOException {
+        String id = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.currentName();
+            final var token = parser.nextToken();
+
+            if ("id".equals(field)) {
+                id = readString(parser, token);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new CategoryEvent(id);
+    }
+
+    private static CategoryEvent readAfter(final JsonParser parser) throws IOException {
+        String id = null;
+        String name = null;
+        String description = null;
+        Boolean active = null;
+        Long createdAt = null;
+        Long updatedAt = null;
+        Long deletedAt = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.currentName();
+            final var token = parser.nextToken();
+
+            switch (field) {
+                case "id" -> id = readString(parser, token);
+                case "name" -> name = readString(parser, token);
+                case "description" -> description = readString(parser, token);
+                case "is_active" -> active = readBoolean(parser, token);
+                case "created_at" -> createdAt = readLong(parser, token);
+                case "updated_at" -> updatedAt = readLong(parser, token);
+                case "deleted_at" -> deletedAt = readLong(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return new CategoryEvent(id, name, description, active, createdAt, updatedAt, deletedAt);
+    }
+
+    private static Source readSource(final JsonParser parser) throws IOException {
+        Long timestamp = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var field = parser.currentName();
+            final var token = parser.nextToken();
+
+            if ("ts_ms".equals(field)) {
+                timestamp = readLong(parser, token);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new Source(null, null, null, timestamp);
+    }
+
+    private static String readString(final JsonParser parser, final JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static Long readLong(final JsonParser parser, final JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getValueAsLong();
+    }
+
+    private static Boolean readBoolean(final JsonParser parser, final JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NUMBER_INT -> parser.getIntValue() != 0;
+            case VALUE_STRING -> Boolean.parseBoolean(parser.getText());
+            default -> null;
+        };
+    }
+
+    private static void expectObject(final JsonToken token, final JsonParser parser) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Category envelope must be a JSON object but was " + token + " at " + parser.currentLocation());
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package com.studies.catalog.infrastructure.kafka;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.studies.catalog.application.category.delete.DeleteCategoryUseCase;
-import com.studies.catalog.application.category.save.SaveCategoryUseCase;
-import com.studies.catalog.infrastructure.category.CategoryGateway;
+import com.studies.catalog.application.category.bulk.BulkCategoryUseCase;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.exceptions.InternalErrorException;
+import com.studies.catalog.infrastructure.category.CategoryChangeFeed;
 import com.studies.catalog.infrastructure.category.models.CategoryEvent;
-import com.studies.catalog.infrastructure.configuration.json.Json;
 import com.studies.catalog.infrastructure.kafka.connect.MessageValue;
-import com.studies.catalog.infrastructure.kafka.connect.Operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.annotation.DltHandler;
@@ -19,7 +18,9 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 @Component
 public class CategoryListener {
@@ -28,18 +29,18 @@ public class CategoryListener {
     public static final TypeReference<MessageValue<CategoryEvent>> CATEGORY_MESSAGE = new TypeReference<>() {
     };
 
-    private final CategoryGateway categoryGateway;
-    private final SaveCategoryUseCase saveCategoryUseCase;
-    private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final CategoryResolver categoryResolver;
+    private final BulkCategoryUseCase bulkCategoryUseCase;
+    private final CategoryChangeFeed changeFeed;
 
     public CategoryListener(
-            final CategoryGateway categoryGateway,
-            final SaveCategoryUseCase saveCategoryUseCase,
-            final DeleteCategoryUseCase deleteCategoryUseCase
+            final CategoryResolver categoryResolver,
+            final BulkCategoryUseCase bulkCategoryUseCase,
+            final CategoryChangeFeed changeFeed
     ) {
-        this.categoryGateway = Objects.requireNonNull(categoryGateway);
-        this.saveCategoryUseCase = Objects.requireNonNull(saveCategoryUseCase);
-        this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.categoryResolver = Objects.requireNonNull(categoryResolver);
+        this.bulkCategoryUseCase = Objects.requireNonNull(bulkCategoryUseCase);
+        this.changeFeed = Objects.requireNonNull(changeFeed);
     }
 
     @KafkaListener(
@@ -59,31 +60,36 @@ public class CategoryListener {
     )
     public void onMessage(@Payload final String payload, final ConsumerRecordMetadata metadata) {
         LOG.info("Message received from Kafka [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), payload);
-        final var messagePayload = Json.readValue(payload, CATEGORY_MESSAGE).payload();
-        final var op = messagePayload.operation();
-
-        if (Operation.isDelete(op)) {
-            this.deleteCategoryUseCase.execute(messagePayload.before().id());
-        } else {
-            this.categoryGateway.categoryOfId(messagePayload.after().id())
-                    .ifPresentOrElse(this.saveCategoryUseCase::execute,
-                            () -> LOG.warn("Category was not found {}", messagePayload.after().id()));
-        }
+        process(CategoryMessage.from(payload, metadata));
     }
 
     @DltHandler
     public void onDLTMessage(@Payload final String payload, final ConsumerRecordMetadata metadata) {
         LOG.warn("Message received from Kafka at DLT [topic:{}] [partition:{}] [offset:{}]: {}", metadata.topic(), metadata.partition(), metadata.offset(), payload);
-        final var messagePayload = Json.readValue(payload, CATEGORY_MESSAGE).payload();
-        final var op = messagePayload.operation();
+        process(CategoryMessage.from(payload, metadata));
+    }
+
+    private void process(final CategoryMessage message) {
+        toChange(message).ifPresentOrElse(this::apply, () -> LOG.warn("Category was not found {}", message.id()));
+    }
 
-        if (Operation.isDelete(op)) {
-            this.deleteCategoryUseCase.execute(messagePayload.before().id());
-        } else {
-            this.categoryGateway.categoryOfId(messagePayload.after().id())
-                    .ifPresentOrElse(this.saveCategoryUseCase::execute, () -> {
-                        LOG.warn("Category was not found {}", messagePayload.after().id());
-                    });
+    private Optional<CategoryChange> toChange(final CategoryMessage message) {
+        if (message.isDelete()) {
+            return Optional.of(CategoryChange.delete(message.id(), message.version()));
+        }
+
+        return Optional.ofNullable(this.categoryResolver.resolve(List.of(message)).get(message.id()))
+                .map(category -> CategoryChange.save(category, message.version()));
+    }
+
+    private void apply(final CategoryChange change) {
+        final var output = this.bulkCategoryUseCase.execute(List.of(change));
+        if (!output.failed().isEmpty()) {
+            throw InternalErrorException.with("Failed to apply change for category %s".formatted(change.id()), null);
+        }
+        // a change the index discarded as stale is not news for the feed either
+        if (output.discarded().isEmpty()) {
+            this.changeFeed.publish(List.of(change));
         }
     }
 }
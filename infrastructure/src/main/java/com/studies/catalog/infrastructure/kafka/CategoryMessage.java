@@ -0,0 +1,42 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.infrastructure.category.models.CategoryEvent;
+import com.studies.catalog.infrastructure.kafka.connect.Operation;
+import com.studies.catalog.infrastructure.kafka.connect.ValuePayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.adapter.ConsumerRecordMetadata;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+public record CategoryMessage(
+        ConsumerRecord<String, byte[]> record,
+        ValuePayload<CategoryEvent> payload
+) {
+
+    public static CategoryMessage from(final ConsumerRecord<String, byte[]> aRecord) {
+        return new CategoryMessage(aRecord, CategoryEnvelopeDecoder.decode(aRecord.value()));
+    }
+
+    public static CategoryMessage from(final String aValue, final ConsumerRecordMetadata metadata) {
+        final var aRecord = new ConsumerRecord<String, byte[]>(metadata.topic(), metadata.partition(), metadata.offset(), null, aValue.getBytes(StandardCharsets.UTF_8));
+        return new CategoryMessage(aRecord, CategoryEnvelopeDecoder.decode(aValue));
+    }
+
+    public boolean isDelete() {
+        return Operation.isDelete(payload.operation());
+    }
+
+    public String id() {
+        return isDelete() ? payload.before().id() : payload.after().id();
+    }
+
+    public Optional<Category> afterImage() {
+        return isDelete() ? Optional.empty() : payload.after().toCategory();
+    }
+
+    public Long version() {
+        return payload.source() != null ? payload.source().timestamp() : null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.infrastructure.category.CategoryIdIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public final class CategoryMessageCompactor {
+
+    private static final Comparator<CategoryMessage> BY_OFFSET =
+            Comparator.<CategoryMessage>comparingInt(it -> it.record().partition())
+                    .thenComparingLong(it -> it.record().offset());
+
+    private CategoryMessageCompactor() {
+    }
+
+    public static List<CategoryMessage> compact(final List<CategoryMessage> messages) {
+        if (messages.size() < 2) {
+            return messages;
+        }
+
+        final var sorted = new ArrayList<>(messages);
+        sorted.sort(BY_OFFSET);
+
+        // keeps the last message of each id, in the order those last messages were read
+        final var lastSeen = new CategoryIdIndex(sorted.size());
+        final var latest = new CategoryMessage[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            final var message = sorted.get(i);
+            final var previous = lastSeen.put(message.id(), i);
+            if (previous != CategoryIdIndex.ABSENT) {
+                latest[previous] = null;
+            }
+            latest[i] = message;
+        }
+
+        final var compacted = new ArrayList<CategoryMessage>(lastSeen.size());
+        for (final var message : latest) {
+            if (message != null) {
+                compacted.add(message);
+            }
+        }
+        return compacted;
+    }
+}
@@ -0,0 +1,186 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.infrastructure.category.CategoryReplicaGateway;
+import com.studies.catalog.infrastructure.category.CategorySnapshot;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryConsumerProperties;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryReplicaProperties;
+import com.studies.catalog.infrastructure.configuration.properties.KafkaProperties;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Brings the category replica up once the application is ready. A snapshot on disk is restored and the topic is
+ * replayed from the positions stored with it, as long as the topic still holds them; otherwise the index is scrolled
+ * and the topic is replayed from the positions the index writers had committed before the scroll. Readiness is only
+ * published after the ready event listeners return, so traffic reaches this instance once the replay caught up with
+ * the end of the topic. A replay that does not catch up in time leaves reads on Elasticsearch.
+ */
+@Component
+@ConditionalOnProperty(prefix = "replica.categories", name = "enabled", havingValue = "true")
+public class CategoryReplicaBootstrap {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryReplicaBootstrap.class);
+
+    private final CategoryReplicaGateway replicaGateway;
+    private final CategoryReplicaListener replicaListener;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final KafkaProperties kafkaProperties;
+    private final CategoryConsumerProperties consumerProperties;
+    private final CategoryReplicaProperties properties;
+    private final ScheduledExecutorService snapshots;
+
+    public CategoryReplicaBootstrap(
+            final CategoryReplicaGateway replicaGateway,
+            final CategoryReplicaListener replicaListener,
+            final KafkaListenerEndpointRegistry listenerRegistry,
+            final KafkaProperties kafkaProperties,
+            final CategoryConsumerProperties consumerProperties,
+            final CategoryReplicaProperties properties
+    ) {
+        this.replicaGateway = Objects.requireNonNull(replicaGateway);
+        this.replicaListener = Objects.requireNonNull(replicaListener);
+        this.listenerRegistry = Objects.requireNonNull(listenerRegistry);
+        this.kafkaProperties = Objects.requireNonNull(kafkaProperties);
+        this.consumerProperties = Objects.requireNonNull(consumerProperties);
+        this.properties = Objects.requireNonNull(properties);
+        this.snapshots = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-replica-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        final var startedAt = System.currentTimeMillis();
+        try {
+            final Map<TopicPartition, Long> endPositions;
+            try (final var consumer = newConsumer()) {
+                final var partitions = partitionsOf(consumer);
+                final var logStarts = consumer.beginningOffsets(partitions);
+                final var startPositions = new HashMap<>(logStarts);
+
+                final var snapshot = readSnapshot().filter(it -> isReplayable(it, logStarts));
+                if (snapshot.isPresent()) {
+                    snapshot.get().positions().forEach(position ->
+                            startPositions.put(new TopicPartition(position.topic(), position.partition()), position.offset()));
+                    this.replicaGateway.restore(snapshot.get());
+                } else {
+                    // committed before the scroll starts, everything behind these positions is already in the index
+                    consumer.committed(Set.copyOf(partitions)).forEach((partition, committed) -> {
+                        if (committed != null) {
+                            startPositions.put(partition, committed.offset());
+                        }
+                    });
+                    this.replicaGateway.hydrate();
+                }
+
+                this.replicaListener.startFrom(startPositions);
+                endPositions = consumer.endOffsets(partitions);
+            }
+
+            this.listenerRegistry.getListenerContainer(CategoryReplicaListener.ID).start();
+
+            if (!this.replicaListener.awaitPositions(endPositions, this.properties.catchUpTimeout())) {
+                // serving a replica still behind the topic would answer with categories that were already changed
+                LOG.warn("Category replica did not catch up with the topic within {}, reads stay on Elasticsearch", this.properties.catchUpTimeout());
+                return;
+            }
+
+            this.replicaGateway.markHydrated();
+            LOG.info("Category replica ready in {} ms", System.currentTimeMillis() - startedAt);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (final RuntimeException ex) {
+            LOG.error("Failed to bring the category replica up, reads will be served by Elasticsearch", ex);
+            return;
+        }
+
+        if (this.properties.snapshotEnabled()) {
+            final var interval = this.properties.snapshotInterval().toMillis();
+            this.snapshots.scheduleWithFixedDelay(this::writeSnapshot, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.snapshots.shutdownNow();
+
+        // listener containers are stopped before destruction, the positions no longer move
+        if (this.properties.snapshotEnabled() && this.replicaGateway.isHydrated()) {
+            writeSnapshot();
+        }
+    }
+
+    private void writeSnapshot() {
+        try {
+            // positions first: the contents read afterwards are at least as recent, and replaying over them is harmless
+            final var positions = this.replicaListener.positions();
+            this.replicaGateway.snapshot(positions).write(snapshotPath());
+        } catch (final RuntimeException ex) {
+            LOG.warn("Failed to write the category replica snapshot", ex);
+        }
+    }
+
+    private static boolean isReplayable(final CategorySnapshot aSnapshot, final Map<TopicPartition, Long> logStarts) {
+        // retention or compaction may have removed what follows a stored position, those changes cannot be replayed
+        for (final var position : aSnapshot.positions()) {
+            final var logStart = logStarts.get(new TopicPartition(position.topic(), position.partition()));
+            if (logStart == null || position.offset() < logStart) {
+                LOG.warn("Discarding the category replica snapshot taken at {}, {}-{} starts at {} but it stopped at {}",
+                        aSnapshot.takenAt(), position.topic(), position.partition(), logStart, position.offset());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Optional<CategorySnapshot> readSnapshot() {
+        return this.properties.snapshotEnabled() ? CategorySnapshot.read(snapshotPath()) : Optional.empty();
+    }
+
+    private Path snapshotPath() {
+        return Path.of(this.properties.snapshotPath());
+    }
+
+    private List<TopicPartition> partitionsOf(final Consumer<?, ?> consumer) {
+        return Arrays.stream(this.consumerProperties.topics().split(","))
+                .map(String::trim)
+                .flatMap(topic -> consumer.partitionsFor(topic).stream())
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+    }
+
+    Consumer<byte[], byte[]> newConsumer() {
+        final var props = Map.<String, Object>of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, this.kafkaProperties.bootstrapServers(),
+                ConsumerConfig.GROUP_ID_CONFIG, this.consumerProperties.groupId(),
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false
+        );
+        return new KafkaConsumer<>(props, new ByteArrayDeserializer(), new ByteArrayDeserializer());
+    }
+}
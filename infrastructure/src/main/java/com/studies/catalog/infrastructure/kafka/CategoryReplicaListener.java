@@ -0,0 +1,104 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.infrastructure.category.CategoryReplicaGateway;
+import com.studies.catalog.infrastructure.category.CategorySnapshot;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feeds the category replica of this instance. It reads every partition under a group of its own, starting from the
+ * positions handed over by {@link CategoryReplicaBootstrap}, and only writes to the replica: the index is kept by
+ * {@link CategoryListener} and {@link CategoryBatchListener}.
+ * <p>
+ * A batch that fails to resolve is thrown back to its container, which redelivers it with backoff and never skips it;
+ * positions only move once a batch is applied, so the replica is not seen as caught up in the meantime.
+ */
+@Component
+@ConditionalOnProperty(prefix = "replica.categories", name = "enabled", havingValue = "true")
+public class CategoryReplicaListener implements ConsumerSeekAware {
+
+    public static final String ID = "kafka-listener-categories-replica";
+
+    private final CategoryResolver categoryResolver;
+    private final CategoryReplicaGateway replicaGateway;
+    private final Map<TopicPartition, Long> positions;
+
+    public CategoryReplicaListener(final CategoryResolver categoryResolver, final CategoryReplicaGateway replicaGateway) {
+        this.categoryResolver = Objects.requireNonNull(categoryResolver);
+        this.replicaGateway = Objects.requireNonNull(replicaGateway);
+        this.positions = new ConcurrentHashMap<>();
+    }
+
+    @KafkaListener(
+            autoStartup = "false",
+            containerFactory = "kafkaReplicaListenerFactory",
+            topics = "${kafka.consumers.categories.topics}",
+            groupId = "${kafka.consumers.categories.group-id}-replica-${random.uuid}",
+            id = ID,
+            properties = {
+                    "max.poll.records=${kafka.consumers.categories.max-poll-records}"
+            }
+    )
+    public void onMessages(final List<ConsumerRecord<String, byte[]>> records, final Consumer<?, ?> consumer) {
+        this.replicaGateway.apply(this.categoryResolver.changesOf(records));
+
+        // the consumer's positions, not the last offsets seen: markers and compacted gaps never arrive as records
+        consumer.assignment().forEach(partition -> this.positions.put(partition, consumer.position(partition)));
+    }
+
+    @Override
+    public void onIdleContainer(final Map<TopicPartition, Long> assignments, final ConsumerSeekCallback callback) {
+        // handed the consumer's positions, so a topic ending in markers is still seen as caught up
+        this.positions.putAll(assignments);
+    }
+
+    @Override
+    public void onPartitionsAssigned(final Map<TopicPartition, Long> assignments, final ConsumerSeekCallback callback) {
+        assignments.keySet().forEach(partition -> {
+            final var position = this.positions.get(partition);
+            if (position != null) {
+                callback.seek(partition.topic(), partition.partition(), position);
+            } else {
+                callback.seekToBeginning(partition.topic(), partition.partition());
+            }
+        });
+    }
+
+    public void startFrom(final Map<TopicPartition, Long> startPositions) {
+        this.positions.clear();
+        this.positions.putAll(startPositions);
+    }
+
+    public List<CategorySnapshot.Position> positions() {
+        return this.positions.entrySet().stream()
+                .map(entry -> new CategorySnapshot.Position(entry.getKey().topic(), entry.getKey().partition(), entry.getValue()))
+                .toList();
+    }
+
+    public boolean awaitPositions(final Map<TopicPartition, Long> targets, final Duration timeout) throws InterruptedException {
+        final var deadline = System.nanoTime() + timeout.toNanos();
+        while (!hasReached(targets)) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(100);
+        }
+        return true;
+    }
+
+    private boolean hasReached(final Map<TopicPartition, Long> targets) {
+        return targets.entrySet().stream()
+                .allMatch(target -> this.positions.getOrDefault(target.getKey(), 0L) >= target.getValue());
+    }
+}
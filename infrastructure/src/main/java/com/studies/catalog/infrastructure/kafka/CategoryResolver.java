@@ -0,0 +1,94 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.infrastructure.category.CategoryGateway;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryConsumerProperties;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class CategoryResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CategoryResolver.class);
+
+    private final CategoryGateway categoryGateway;
+    private final boolean trustPayload;
+
+    public CategoryResolver(final CategoryGateway categoryGateway, final CategoryConsumerProperties properties) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.trustPayload = properties.trustPayload();
+    }
+
+    public Map<String, Category> resolve(final Collection<CategoryMessage> upserts) {
+        final var resolved = new HashMap<String, Category>(upserts.size());
+        final var remote = new LinkedHashMap<String, Long>(upserts.size());
+
+        for (final var message : upserts) {
+            // only versioned images are trusted, the index discards them when a newer change was already applied
+            final var image = isTrusted(message) ? message.afterImage() : Optional.<Category>empty();
+            if (image.isPresent()) {
+                resolved.put(message.id(), image.get());
+            } else {
+                remote.put(message.id(), message.version());
+            }
+        }
+
+        if (remote.size() == 1) {
+            final var change = remote.entrySet().iterator().next();
+            this.categoryGateway.changedCategoryOfId(change.getKey(), change.getValue())
+                    .ifPresent(category -> resolved.put(change.getKey(), category));
+        } else if (!remote.isEmpty()) {
+            resolved.putAll(this.categoryGateway.changedCategoriesOfIds(remote));
+        }
+
+        return resolved;
+    }
+
+    /**
+     * The changes a batch of records leads to, compacted to the last one per category. Undecodable records and
+     * categories that no longer exist upstream are skipped, for listeners that have nowhere to retry them.
+     */
+    public List<CategoryChange> changesOf(final List<ConsumerRecord<String, byte[]>> records) {
+        final var messages = new ArrayList<CategoryMessage>(records.size());
+        for (final var record : records) {
+            if (record.value() == null) {
+                continue;
+            }
+
+            try {
+                messages.add(CategoryMessage.from(record));
+            } catch (final Exception ex) {
+                LOG.warn("Skipped undecodable message [topic:{}] [partition:{}] [offset:{}]", record.topic(), record.partition(), record.offset(), ex);
+            }
+        }
+
+        final var compacted = CategoryMessageCompactor.compact(messages);
+        final var categories = resolve(compacted.stream().filter(message -> !message.isDelete()).toList());
+
+        final var changes = new ArrayList<CategoryChange>(compacted.size());
+        for (final var message : compacted) {
+            if (message.isDelete()) {
+                changes.add(CategoryChange.delete(message.id(), message.version()));
+            } else if (categories.containsKey(message.id())) {
+                changes.add(CategoryChange.save(categories.get(message.id()), message.version()));
+            }
+        }
+        return changes;
+    }
+
+    private boolean isTrusted(final CategoryMessage message) {
+        return trustPayload && message.version() != null;
+    }
+}
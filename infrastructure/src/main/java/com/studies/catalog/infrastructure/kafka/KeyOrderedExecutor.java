@@ -0,0 +1,51 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+public class KeyOrderedExecutor implements AutoCloseable {
+
+    private final ExecutorService[] lanes;
+
+    public KeyOrderedExecutor(final int lanes, final String threadNamePrefix) {
+        this.lanes = new ExecutorService[Math.max(lanes, 0)];
+
+        if (lanes > 1) {
+            final var threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+            threadFactory.setDaemon(true);
+
+            for (int i = 0; i < lanes; i++) {
+                this.lanes[i] = Executors.newSingleThreadExecutor(threadFactory);
+            }
+        }
+    }
+
+    public <T> CompletableFuture<T> submit(final String aKey, final Supplier<T> aTask) {
+        if (lanes.length < 2) {
+            try {
+                return CompletableFuture.completedFuture(aTask.get());
+            } catch (final Exception ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+
+        return CompletableFuture.supplyAsync(aTask, lanes[laneOf(aKey)]);
+    }
+
+    public int laneOf(final String aKey) {
+        return lanes.length < 2 ? 0 : Math.floorMod(aKey.hashCode(), lanes.length);
+    }
+
+    @Override
+    public void close() {
+        for (final var lane : lanes) {
+            if (lane != null) {
+                lane.shutdown();
+            }
+        }
+    }
+}
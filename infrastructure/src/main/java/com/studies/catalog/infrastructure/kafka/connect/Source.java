@@ -1,10 +1,20 @@
 package com.studies.catalog.infrastructure.kafka.connect;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record Source(
         @JsonProperty("name") String name,
         @JsonProperty("db") String database,
-        @JsonProperty("table") String table
+        @JsonProperty("table") String table,
+        @JsonProperty("ts_ms") Long timestamp
 ) {
+
+    @JsonCreator
+    public Source {
+    }
+
+    public Source(final String name, final String database, final String table) {
+        this(name, database, table, null);
+    }
 }
@@ -0,0 +1,139 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryLookupCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class CategoryCacheTest extends UnitTest {
+
+    private CategoryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new CategoryCache("categories.test", new CategoryLookupCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenAMissingId_whenGetTwice_shouldCacheTheMiss() {
+        // given
+        final var calls = new AtomicInteger();
+
+        // when
+        final var firstOutput = this.cache.get("missing", anId -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        });
+        final var secondOutput = this.cache.get("missing", anId -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        });
+
+        // then
+        Assertions.assertTrue(firstOutput.isEmpty());
+        Assertions.assertTrue(secondOutput.isEmpty());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void givenConcurrentLookups_whenGet_shouldLoadOnce() throws Exception {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var calls = new AtomicInteger();
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(20);
+
+        // when
+        final var lookups = IntStream.range(0, 20)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> this.cache.get(movies.id(), anId -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return Optional.of(movies);
+                }), executor))
+                .toList();
+
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (final var lookup : lookups) {
+            Assertions.assertEquals(movies, lookup.get(5, TimeUnit.SECONDS).get());
+        }
+        Assertions.assertEquals(1, calls.get());
+
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenCachedIds_whenGetAll_shouldLoadOnlyTheMissingOnes() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        this.cache.get(movies.id(), anId -> Optional.of(movies));
+
+        // when
+        final var currentOutput = this.cache.getAll(List.of(movies.id(), trailers.id(), "missing"), ids -> {
+            Assertions.assertEquals(List.of(trailers.id(), "missing"), ids);
+            return Map.of(trailers.id(), trailers);
+        });
+
+        // then
+        Assertions.assertEquals(Map.of(movies.id(), movies, trailers.id(), trailers), currentOutput);
+        Assertions.assertTrue(this.cache.get("missing", anId -> Assertions.fail("should be a cached miss")).isEmpty());
+    }
+
+    @Test
+    void givenACachedEntry_whenEvict_shouldLoadAgain() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        this.cache.get(movies.id(), anId -> Optional.of(movies));
+
+        // when
+        this.cache.evict(movies.id());
+        final Optional<Category> currentOutput = this.cache.get(movies.id(), anId -> Optional.empty());
+
+        // then
+        Assertions.assertTrue(currentOutput.isEmpty());
+    }
+
+    @Test
+    void givenAnEvictionWhileLoadingAsync_whenTheLoadCompletes_shouldNotCacheTheLoadedValue() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var pending = new CompletableFuture<Map<String, Category>>();
+
+        final var currentOutput = this.cache.getAllAsync(List.of(movies.id(), trailers.id()), ids -> pending);
+
+        // when
+        this.cache.evict(movies.id());
+        pending.complete(Map.of(movies.id(), movies, trailers.id(), trailers));
+
+        // then
+        Assertions.assertEquals(Map.of(movies.id(), movies, trailers.id(), trailers), currentOutput.join());
+        Assertions.assertTrue(this.cache.get(movies.id(), anId -> Optional.empty()).isEmpty());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryBulkResult;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.pagination.Pagination;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryLookupCacheProperties;
+import com.studies.catalog.infrastructure.configuration.properties.CategorySearchCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCachedGatewayTest extends UnitTest {
+
+    @Mock
+    private CategoryElasticsearchGateway delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CategoryCachedGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.categoryGateway = new CategoryCachedGateway(delegate, new CategorySearchCacheProperties(), new CategoryLookupCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void givenSameQuery_whenCallsFindAllTwice_shouldHitElasticsearchOnce() {
+        // given
+        final var expectedPage = new Pagination<>(0, 10, 1, List.of(Fixture.Categories.movies()));
+
+        when(delegate.findAll(any())).thenReturn(expectedPage);
+
+        // when
+        final var firstOutput = this.categoryGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+        final var secondOutput = this.categoryGateway.findAll(new CategorySearchQuery(0, 10, " ", "name", "ASC"));
+
+        // then
+        Assertions.assertSame(expectedPage, firstOutput);
+        Assertions.assertSame(expectedPage, secondOutput);
+        verify(delegate, times(1)).findAll(any());
+
+        Assertions.assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "categories.search").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "categories.search").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void givenAPendingSearch_whenCallsFindAllAsyncAgain_shouldShareIt() {
+        // given
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var expectedPage = new Pagination<>(0, 10, 1, List.of(Fixture.Categories.movies()));
+        final var pending = new CompletableFuture<Pagination<Category>>();
+
+        when(delegate.findAllAsync(any())).thenReturn(pending);
+
+        // when
+        final var firstOutput = this.categoryGateway.findAllAsync(aQuery);
+        final var secondOutput = this.categoryGateway.findAllAsync(aQuery);
+        pending.complete(expectedPage);
+
+        // then
+        Assertions.assertSame(expectedPage, firstOutput.join());
+        Assertions.assertSame(expectedPage, secondOutput.join());
+        Assertions.assertSame(expectedPage, this.categoryGateway.findAll(aQuery));
+        verify(delegate, times(1)).findAllAsync(any());
+        verify(delegate, never()).findAll(any());
+    }
+
+    @Test
+    void givenSomeCachedIds_whenCallsFindAllByIdAsync_shouldFetchOnlyTheMissingOnes() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        when(delegate.findById(movies.id())).thenReturn(Optional.of(movies));
+        when(delegate.findAllByIdAsync(any())).thenReturn(CompletableFuture.completedFuture(List.of(trailers)));
+
+        this.categoryGateway.findById(movies.id());
+
+        // when
+        final var currentOutput = this.categoryGateway.findAllByIdAsync(List.of(trailers.id(), movies.id()));
+
+        // then
+        Assertions.assertEquals(List.of(trailers, movies), currentOutput.join());
+        verify(delegate, times(1)).findAllByIdAsync(eq(List.of(trailers.id())));
+        verify(delegate, never()).findAllById(any());
+    }
+
+    @Test
+    void givenSomeCachedIds_whenCallsFindAllById_shouldFetchOnlyTheMissingOnes() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        when(delegate.findById(movies.id())).thenReturn(Optional.of(movies));
+        when(delegate.findAllById(any())).thenReturn(List.of(trailers));
+
+        this.categoryGateway.findById(movies.id());
+
+        // when
+        final var currentOutput = this.categoryGateway.findAllById(List.of(trailers.id(), movies.id(), trailers.id()));
+
+        // then
+        Assertions.assertEquals(List.of(trailers, movies), currentOutput);
+        verify(delegate, times(1)).findAllById(eq(List.of(trailers.id())));
+    }
+
+    @Test
+    void givenCachedQuery_whenBulkIsApplied_shouldSearchAgain() {
+        // given
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var stalePage = new Pagination<>(0, 10, 1, List.of(Fixture.Categories.movies()));
+        final var freshPage = new Pagination<>(0, 10, 2, List.of(Fixture.Categories.movies(), Fixture.Categories.trailers()));
+
+        when(delegate.findAll(any())).thenReturn(stalePage, freshPage);
+        when(delegate.bulk(any())).thenReturn(CategoryBulkResult.empty());
+
+        this.categoryGateway.findAll(aQuery);
+
+        // when
+        this.categoryGateway.bulk(List.of(CategoryChange.save(Fixture.Categories.trailers())));
+        final var currentOutput = this.categoryGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertSame(freshPage, currentOutput);
+        verify(delegate, times(2)).findAll(any());
+    }
+
+    @Test
+    void givenAPageReadBeforeTheIndexRefreshed_whenRefreshIntervalPasses_shouldSearchAgain() throws InterruptedException {
+        // given
+        final var searchProperties = new CategorySearchCacheProperties();
+        searchProperties.setRefreshInterval(Duration.ofMillis(50));
+        final var categoryGateway = new CategoryCachedGateway(delegate, searchProperties, new CategoryLookupCacheProperties(), meterRegistry);
+
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var stalePage = new Pagination<>(0, 10, 1, List.of(Fixture.Categories.movies()));
+        final var freshPage = new Pagination<>(0, 10, 2, List.of(Fixture.Categories.movies(), Fixture.Categories.trailers()));
+
+        when(delegate.findAll(any())).thenReturn(stalePage, stalePage, freshPage);
+        when(delegate.bulk(any())).thenReturn(CategoryBulkResult.empty());
+
+        categoryGateway.findAll(aQuery);
+        categoryGateway.bulk(List.of(CategoryChange.save(Fixture.Categories.trailers())));
+        final var beforeRefresh = categoryGateway.findAll(aQuery);
+
+        // when
+        Thread.sleep(200);
+        final var afterRefresh = categoryGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertSame(stalePage, beforeRefresh);
+        Assertions.assertSame(freshPage, afterRefresh);
+        verify(delegate, times(3)).findAll(any());
+    }
+
+    @Test
+    void givenCursorQuery_whenCallsFindAll_shouldNotCache() {
+        // given
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc", "eyJzIjpbIk1vdmllcyJdfQ");
+
+        when(delegate.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        this.categoryGateway.findAll(aQuery);
+        this.categoryGateway.findAll(aQuery);
+
+        // then
+        verify(delegate, times(2)).findAll(eq(aQuery));
+    }
+
+    @Test
+    void givenCachedCategory_whenSaved_shouldReadItAgainFromElasticsearch() {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        when(delegate.findById(movies.id())).thenReturn(Optional.empty(), Optional.of(movies));
+        when(delegate.save(movies)).thenReturn(movies);
+
+        this.categoryGateway.findById(movies.id());
+        this.categoryGateway.findById(movies.id());
+
+        // when
+        this.categoryGateway.save(movies);
+        final var currentOutput = this.categoryGateway.findById(movies.id());
+
+        // then
+        Assertions.assertEquals(movies, currentOutput.get());
+        verify(delegate, times(2)).findById(eq(movies.id()));
+    }
+}
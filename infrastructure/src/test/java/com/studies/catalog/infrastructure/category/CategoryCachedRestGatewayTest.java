@@ -0,0 +1,140 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.utils.InstantUtils;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryLookupCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCachedRestGatewayTest extends UnitTest {
+
+    @Mock
+    private CategoryRestGateway delegate;
+
+    private CategoryCachedRestGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.categoryGateway = new CategoryCachedRestGateway(delegate, new CategoryLookupCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsCategoryOfIdAgain_shouldNotCallUpstream() {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        when(delegate.categoryOfId(movies.id())).thenReturn(Optional.of(movies));
+
+        // when
+        this.categoryGateway.categoryOfId(movies.id());
+        final var currentOutput = this.categoryGateway.categoryOfId(movies.id());
+
+        // then
+        Assertions.assertEquals(movies, currentOutput.get());
+        verify(delegate, times(1)).categoryOfId(movies.id());
+    }
+
+    @Test
+    void givenAMissingCategory_whenTheSameChangeIsRetried_shouldAskUpstreamOnce() {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        when(delegate.categoryOfId(movies.id())).thenReturn(Optional.empty());
+
+        // when
+        this.categoryGateway.changedCategoryOfId(movies.id(), 10L);
+        this.categoryGateway.changedCategoryOfId(movies.id(), 10L);
+        final var currentOutput = this.categoryGateway.changedCategoryOfId(movies.id(), 10L);
+
+        // then
+        Assertions.assertTrue(currentOutput.isEmpty());
+        verify(delegate, times(1)).categoryOfId(movies.id());
+    }
+
+    @Test
+    void givenACategoryReadForAChange_whenANewerChangeArrives_shouldReadItUpstreamAgain() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var renamed = renamed(movies);
+
+        when(delegate.categoryOfId(movies.id())).thenReturn(Optional.of(movies), Optional.of(renamed));
+
+        this.categoryGateway.changedCategoryOfId(movies.id(), 10L);
+
+        // when
+        final var newerOutput = this.categoryGateway.changedCategoryOfId(movies.id(), 20L);
+        final var olderOutput = this.categoryGateway.changedCategoryOfId(movies.id(), 10L);
+        final var plainOutput = this.categoryGateway.categoryOfId(movies.id());
+
+        // then
+        Assertions.assertEquals(renamed, newerOutput.get());
+        Assertions.assertEquals(renamed, olderOutput.get());
+        Assertions.assertEquals(renamed, plainOutput.get());
+        verify(delegate, times(2)).categoryOfId(movies.id());
+    }
+
+    @Test
+    void givenAnUnversionedChange_whenCallsChangedCategoryOfId_shouldAlwaysReadItUpstream() {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        when(delegate.categoryOfId(movies.id())).thenReturn(Optional.of(movies));
+
+        this.categoryGateway.categoryOfId(movies.id());
+
+        // when
+        this.categoryGateway.changedCategoryOfId(movies.id(), null);
+        this.categoryGateway.changedCategoryOfId(movies.id(), null);
+
+        // then
+        verify(delegate, times(3)).categoryOfId(movies.id());
+    }
+
+    @Test
+    void givenCategoriesReadForChanges_whenSomeChangeAgain_shouldReadOnlyThoseUpstream() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var renamed = renamed(trailers);
+
+        when(delegate.categoriesOfIds(any()))
+                .thenReturn(Map.of(movies.id(), movies, trailers.id(), trailers))
+                .thenReturn(Map.of(trailers.id(), renamed));
+
+        this.categoryGateway.changedCategoriesOfIds(Map.of(movies.id(), 10L, trailers.id(), 10L));
+
+        // when
+        final var currentOutput = this.categoryGateway.changedCategoriesOfIds(Map.of(movies.id(), 10L, trailers.id(), 20L));
+
+        // then
+        Assertions.assertEquals(Map.of(movies.id(), movies, trailers.id(), renamed), currentOutput);
+        verify(delegate, times(1)).categoriesOfIds(eq(List.of(trailers.id())));
+    }
+
+    private static Category renamed(final Category aCategory) {
+        return Category.with(
+                aCategory.id(),
+                aCategory.name() + " (renamed)",
+                aCategory.description(),
+                aCategory.active(),
+                aCategory.createdAt(),
+                InstantUtils.now(),
+                aCategory.deletedAt()
+        );
+    }
+}
@@ -0,0 +1,166 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.exceptions.InternalErrorException;
+import com.studies.catalog.domain.utils.InstantUtils;
+import com.studies.catalog.infrastructure.category.models.CategoryChangeEvent;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryFeedProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+class CategoryChangeFeedTest extends UnitTest {
+
+    @Test
+    void givenSubscribersWithFilters_whenPublish_shouldStreamOnlyTheChangesForEachOfThem() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var inactiveTrailers = inactive(trailers);
+
+        final var feed = new CategoryChangeFeed(properties(16, 8));
+        final var all = new Collector(Long.MAX_VALUE);
+        final var onlyActiveTrailers = new Collector(Long.MAX_VALUE);
+
+        feed.subscribe(new CategoryFeedFilter(null, false)).subscribe(all);
+        feed.subscribe(new CategoryFeedFilter(Set.of(trailers.id()), true)).subscribe(onlyActiveTrailers);
+
+        // when
+        feed.publish(List.of(CategoryChange.save(movies), CategoryChange.save(trailers)));
+        feed.publish(List.of(CategoryChange.save(inactiveTrailers), CategoryChange.delete(movies.id())));
+
+        // then
+        Assertions.assertEquals(
+                List.of(
+                        CategoryChangeEvent.upsert(movies),
+                        CategoryChangeEvent.upsert(trailers),
+                        CategoryChangeEvent.upsert(inactiveTrailers),
+                        CategoryChangeEvent.delete(movies.id())
+                ),
+                all.events
+        );
+        Assertions.assertEquals(
+                List.of(CategoryChangeEvent.upsert(trailers), CategoryChangeEvent.delete(trailers.id())),
+                onlyActiveTrailers.events
+        );
+    }
+
+    @Test
+    void givenASlowSubscriber_whenItFallsMoreThanMaxLagBehind_shouldBeToldToResyncAndResumeFromTheNewest() {
+        // given
+        final var feed = new CategoryChangeFeed(properties(16, 8));
+        final var slow = new Collector(1);
+        feed.subscribe(new CategoryFeedFilter(null, false)).subscribe(slow);
+
+        final var first = Fixture.Categories.movies();
+        final var missed = new ArrayList<CategoryChange>();
+        for (int i = 0; i < 9; i++) {
+            missed.add(CategoryChange.save(Fixture.Categories.trailers()));
+        }
+        final var latest = Fixture.Categories.violence();
+
+        // when
+        feed.publish(List.of(CategoryChange.save(first)));
+        feed.publish(missed);
+        slow.upstream().request(1);
+        feed.publish(List.of(CategoryChange.save(latest)));
+        slow.upstream().request(1);
+
+        // then
+        Assertions.assertEquals(
+                List.of(
+                        CategoryChangeEvent.upsert(first),
+                        CategoryChangeEvent.resync(),
+                        CategoryChangeEvent.upsert(latest)
+                ),
+                slow.events
+        );
+    }
+
+    @Test
+    void givenASubscriber_whenCancelled_shouldBeRemovedFromTheFeed() {
+        // given
+        final var feed = new CategoryChangeFeed(properties(16, 8));
+        final var subscriber = new Collector(Long.MAX_VALUE);
+        feed.subscribe(new CategoryFeedFilter(null, false)).subscribe(subscriber);
+        Assertions.assertEquals(1, feed.subscribers());
+
+        // when
+        subscriber.dispose();
+        feed.publish(List.of(CategoryChange.save(Fixture.Categories.movies())));
+
+        // then
+        Assertions.assertEquals(0, feed.subscribers());
+        Assertions.assertTrue(subscriber.events.isEmpty());
+    }
+
+    @Test
+    void givenADisabledFeed_whenSubscribe_shouldFailInsteadOfWaitingForever() {
+        // given
+        final var feed = new CategoryChangeFeed(new CategoryFeedProperties());
+
+        // when
+        feed.publish(List.of(CategoryChange.save(Fixture.Categories.movies())));
+
+        // then
+        Assertions.assertThrows(
+                InternalErrorException.class,
+                () -> feed.subscribe(new CategoryFeedFilter(null, false)).blockFirst()
+        );
+        Assertions.assertEquals(0, feed.subscribers());
+    }
+
+    @Test
+    void givenInvalidCapacityOrMaxLag_whenCreate_shouldFail() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CategoryChangeFeed(properties(100, 10)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CategoryChangeFeed(properties(16, 16)));
+    }
+
+    private static CategoryFeedProperties properties(final int capacity, final int maxLag) {
+        final var properties = new CategoryFeedProperties();
+        properties.setEnabled(true);
+        properties.setCapacity(capacity);
+        properties.setMaxLag(maxLag);
+        return properties;
+    }
+
+    private static Category inactive(final Category aCategory) {
+        return Category.with(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                false,
+                aCategory.createdAt(),
+                InstantUtils.now(),
+                InstantUtils.now()
+        );
+    }
+
+    private static final class Collector extends BaseSubscriber<CategoryChangeEvent> {
+
+        private final List<CategoryChangeEvent> events = new ArrayList<>();
+        private final long initialDemand;
+
+        private Collector(final long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        protected void hookOnSubscribe(final Subscription subscription) {
+            subscription.request(this.initialDemand);
+        }
+
+        @Override
+        protected void hookOnNext(final CategoryChangeEvent event) {
+            this.events.add(event);
+        }
+    }
+}
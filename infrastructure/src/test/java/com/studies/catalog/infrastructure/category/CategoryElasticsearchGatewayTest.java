@@ -2,7 +2,13 @@ package com.studies.catalog.infrastructure.category;
 
 import com.studies.catalog.AbstractElasticsearchTest;
 import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
 import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+import com.studies.catalog.domain.exceptions.DomainException;
+import com.studies.catalog.domain.utils.IdUtils;
+import com.studies.catalog.domain.utils.InstantUtils;
 import com.studies.catalog.infrastructure.category.persistence.CategoryDocument;
 import com.studies.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
@@ -12,6 +18,10 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.testcontainers.shaded.org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest {
 
     @Autowired
@@ -165,6 +175,46 @@ class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest {
         Assertions.assertEquals(expectedName, currentOutput.data().get(0).name());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "animacao,Animação",
+            "ANIMAÇÕES,Animação",
+            "document,Documentários"
+    })
+    void givenAccentsOrInflections_whenCallsFindAll_shouldMatchFoldedTerms(final String expectedTerms, final String expectedName) {
+        // given
+        this.categoryRepository.save(CategoryDocument.from(categoryOf("Animação", "Desenhos e filmes animados")));
+        this.categoryRepository.save(CategoryDocument.from(categoryOf("Documentários", "Histórias reais")));
+
+        final var aQuery = new CategorySearchQuery(0, 10, expectedTerms, "name", "asc");
+
+        // when
+        final var currentOutput = this.categoryGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(1, currentOutput.meta().total());
+        Assertions.assertEquals(expectedName, currentOutput.data().get(0).name());
+    }
+
+    @Test
+    void givenRelevanceSort_whenCallsFindAll_shouldRankNameMatchesFirst() {
+        // given
+        final var describedOnly = categoryOf("Aventura", "Filmes de ação e aventura");
+        final var named = categoryOf("Ação", "Lutas e perseguições");
+
+        this.categoryRepository.save(CategoryDocument.from(describedOnly));
+        this.categoryRepository.save(CategoryDocument.from(named));
+
+        final var aQuery = new CategorySearchQuery(0, 10, "acao", CategorySearchQuery.RELEVANCE, "desc");
+
+        // when
+        final var currentOutput = this.categoryGateway.findAll(aQuery);
+
+        // then
+        Assertions.assertEquals(2, currentOutput.meta().total());
+        Assertions.assertEquals(List.of(named.id(), describedOnly.id()), currentOutput.data().stream().map(Category::id).toList());
+    }
+
     @ParameterizedTest
     @CsvSource({
             "name,asc,0,10,3,3,Movies",
@@ -238,6 +288,225 @@ class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest {
         }
     }
 
+    @Test
+    void givenCursor_whenCallsFindAll_shouldWalkThroughAllPages() {
+        // given
+        mockCategories();
+
+        final var expectedNames = List.of("Movies", "Trailers", "Violence");
+        final var currentNames = new ArrayList<String>();
+
+        // when
+        var currentOutput = this.categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+        currentOutput.data().forEach(category -> currentNames.add(category.name()));
+
+        while (currentOutput.meta().nextCursor() != null) {
+            currentOutput = this.categoryGateway.findAll(
+                    new CategorySearchQuery(0, 1, "", "name", "asc", currentOutput.meta().nextCursor())
+            );
+            currentOutput.data().forEach(category -> currentNames.add(category.name()));
+        }
+
+        // then
+        Assertions.assertEquals(expectedNames, currentNames);
+        Assertions.assertEquals(3, currentOutput.meta().total());
+    }
+
+    @Test
+    void givenCursor_whenCallsFindAllAsync_shouldWalkThroughAllPages() {
+        // given
+        mockCategories();
+
+        final var expectedNames = List.of("Movies", "Trailers", "Violence");
+        final var currentNames = new ArrayList<String>();
+
+        // when
+        var currentOutput = this.categoryGateway.findAllAsync(new CategorySearchQuery(0, 1, "", "name", "asc")).join();
+        currentOutput.data().forEach(category -> currentNames.add(category.name()));
+
+        while (currentOutput.meta().nextCursor() != null) {
+            currentOutput = this.categoryGateway.findAllAsync(
+                    new CategorySearchQuery(0, 1, "", "name", "asc", currentOutput.meta().nextCursor())
+            ).join();
+            currentOutput.data().forEach(category -> currentNames.add(category.name()));
+        }
+
+        // then
+        Assertions.assertEquals(expectedNames, currentNames);
+        Assertions.assertEquals(3, currentOutput.meta().total());
+    }
+
+    @Test
+    void givenValidIds_whenCallsFindAllByIdAsync_shouldRetrieveTheExistingOnes() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        this.categoryRepository.save(CategoryDocument.from(movies));
+        this.categoryRepository.save(CategoryDocument.from(trailers));
+
+        // when
+        final var currentOutput = this.categoryGateway.findAllByIdAsync(List.of(trailers.id(), IdUtils.uniqueId(), movies.id())).join();
+
+        // then
+        Assertions.assertEquals(List.of(trailers.id(), movies.id()), currentOutput.stream().map(Category::id).toList());
+    }
+
+    @Test
+    void givenProjection_whenCallsFindAll_shouldFetchOnlySelectedFields() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        this.categoryRepository.save(CategoryDocument.from(movies));
+
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc")
+                .withFields(Set.of("name"));
+
+        // when
+        final var currentOutput = this.categoryGateway.findAll(aQuery);
+
+        // then
+        final var currentCategory = currentOutput.data().get(0);
+        Assertions.assertEquals(movies.id(), currentCategory.id());
+        Assertions.assertEquals(movies.name(), currentCategory.name());
+        Assertions.assertNull(currentCategory.description());
+        Assertions.assertNull(currentCategory.createdAt());
+        Assertions.assertNull(currentCategory.updatedAt());
+    }
+
+    @Test
+    void givenInvalidCursor_whenCallsFindAll_shouldThrowError() {
+        // given
+        final var expectedErrorMessage = "'cursor' is invalid";
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc", "not-a-cursor");
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.categoryGateway.findAll(aQuery)
+        );
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenCursorFromAnotherSearch_whenCallsFindAll_shouldThrowError() {
+        // given
+        mockCategories();
+
+        final var expectedErrorMessage = "'cursor' belongs to a different search";
+        final var aCursor = this.categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"))
+                .meta()
+                .nextCursor();
+
+        // when
+        final var otherSort = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "createdAt", "asc", aCursor))
+        );
+        final var otherTerms = Assertions.assertThrows(
+                DomainException.class,
+                () -> this.categoryGateway.findAll(new CategorySearchQuery(0, 1, "mov", "name", "asc", aCursor))
+        );
+
+        // then
+        Assertions.assertNotNull(aCursor);
+        Assertions.assertEquals(expectedErrorMessage, otherSort.getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, otherTerms.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenSavesAndDeletes_whenCallsBulk_shouldApplyAllOfThem() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var violence = Fixture.Categories.violence();
+
+        this.categoryRepository.save(CategoryDocument.from(violence));
+
+        final var changes = List.of(
+                CategoryChange.save(movies),
+                CategoryChange.save(trailers),
+                CategoryChange.delete(violence.id())
+        );
+
+        // when
+        final var currentResult = this.categoryGateway.bulk(changes);
+
+        // then
+        Assertions.assertTrue(currentResult.failed().isEmpty());
+        Assertions.assertTrue(currentResult.discarded().isEmpty());
+
+        final var currentMovies = this.categoryRepository.findById(movies.id()).get();
+        Assertions.assertEquals(movies.name(), currentMovies.name());
+        Assertions.assertEquals(movies.createdAt(), currentMovies.createdAt());
+
+        Assertions.assertTrue(this.categoryRepository.existsById(trailers.id()));
+        Assertions.assertFalse(this.categoryRepository.existsById(violence.id()));
+    }
+
+    @Test
+    void givenAStaleVersionedChange_whenCallsBulk_shouldReportItDiscardedWithoutFailure() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var renamed = Category.with(movies.id(), "Movies & Series", movies.description(), movies.active(), movies.createdAt(), movies.updatedAt(), null);
+
+        this.categoryGateway.bulk(List.of(CategoryChange.save(renamed, 2_000L)));
+
+        // when
+        final var staleChanges = List.of(
+                CategoryChange.save(movies, 1_000L),
+                CategoryChange.delete(movies.id(), 1_500L)
+        );
+        final var currentResult = this.categoryGateway.bulk(staleChanges);
+
+        // then
+        Assertions.assertTrue(currentResult.failed().isEmpty());
+        Assertions.assertEquals(staleChanges, currentResult.discarded());
+
+        final var currentMovies = this.categoryRepository.findById(movies.id()).get();
+        Assertions.assertEquals("Movies & Series", currentMovies.name());
+        Assertions.assertEquals(2_000L, currentMovies.sourceVersion());
+    }
+
+    @Test
+    void givenANewerVersionedChange_whenCallsBulk_shouldApplyIt() {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        this.categoryGateway.bulk(List.of(CategoryChange.save(movies, 1_000L)));
+
+        // when
+        final var currentResult = this.categoryGateway.bulk(List.of(CategoryChange.delete(movies.id(), 1_000L)));
+
+        // then
+        Assertions.assertTrue(currentResult.failed().isEmpty());
+        Assertions.assertTrue(currentResult.discarded().isEmpty());
+        Assertions.assertFalse(this.categoryRepository.existsById(movies.id()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "m,Movies",
+            "Trai,Trailers",
+            "violen,Violence"
+    })
+    void givenAPrefix_whenCallsSuggest_shouldReturnNamesStartingWithIt(final String expectedPrefix, final String expectedName) {
+        // given
+        mockCategories();
+
+        // when
+        final var currentOutput = this.categoryGateway.suggest(new CategorySuggestionQuery(expectedPrefix, 5));
+
+        // then
+        Assertions.assertEquals(1, currentOutput.size());
+        Assertions.assertEquals(expectedName, currentOutput.get(0).name());
+    }
+
+    private static Category categoryOf(final String aName, final String aDescription) {
+        final var now = InstantUtils.now();
+        return Category.with(IdUtils.uniqueId(), aName, aDescription, true, now, now, null);
+    }
+
     private void mockCategories() {
         this.categoryRepository.save(CategoryDocument.from(Fixture.Categories.movies()));
         this.categoryRepository.save(CategoryDocument.from(Fixture.Categories.violence()));
@@ -0,0 +1,101 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.utils.IdUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+class CategoryIdIndexTest extends UnitTest {
+
+    @Test
+    void givenHexIds_whenPutBeyondTheInitialCapacity_shouldFindAllOfThem() {
+        // given
+        final var index = new CategoryIdIndex();
+        final var ids = new ArrayList<String>();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            final var anId = IdUtils.uniqueId();
+            ids.add(anId);
+            Assertions.assertEquals(CategoryIdIndex.ABSENT, index.put(anId, i));
+        }
+
+        // then
+        Assertions.assertEquals(1000, index.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Assertions.assertEquals(i, index.get(new String(ids.get(i).toCharArray())));
+        }
+    }
+
+    @Test
+    void givenAnExistingId_whenPut_shouldReplaceAndReturnThePreviousValue() {
+        // given
+        final var index = new CategoryIdIndex();
+        final var anId = IdUtils.uniqueId();
+        index.put(anId, 1);
+
+        // when
+        final var actualOutput = index.put(anId, 2);
+
+        // then
+        Assertions.assertEquals(1, actualOutput);
+        Assertions.assertEquals(2, index.get(anId));
+        Assertions.assertEquals(1, index.size());
+    }
+
+    @Test
+    void givenRemovedIds_whenCallsGet_shouldStillFindTheRemainingOnes() {
+        // given
+        final var index = new CategoryIdIndex();
+        final var ids = new ArrayList<String>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(IdUtils.uniqueId());
+            index.put(ids.get(i), i);
+        }
+
+        // when
+        for (int i = 0; i < ids.size(); i += 2) {
+            Assertions.assertEquals(i, index.remove(ids.get(i)));
+        }
+
+        // then
+        Assertions.assertEquals(250, index.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Assertions.assertEquals(i % 2 == 0 ? CategoryIdIndex.ABSENT : i, index.get(ids.get(i)));
+        }
+    }
+
+    @Test
+    void givenIdsThatAreNotLowercaseHex_whenPut_shouldKeepThemApart() {
+        // given
+        final var index = new CategoryIdIndex();
+        final var lowercase = "8f3c0a5e2b7d4c1f9e6a3b2d1c0f9e8d";
+
+        // when
+        index.put(lowercase, 1);
+        index.put(lowercase.toUpperCase(), 2);
+        index.put("movies", 3);
+
+        // then
+        Assertions.assertEquals(1, index.get(lowercase));
+        Assertions.assertEquals(2, index.get(lowercase.toUpperCase()));
+        Assertions.assertEquals(3, index.get("movies"));
+        Assertions.assertEquals(3, index.remove("movies"));
+        Assertions.assertEquals(CategoryIdIndex.ABSENT, index.get("movies"));
+        Assertions.assertEquals(2, index.size());
+    }
+
+    @Test
+    void givenANegativeValue_whenPut_shouldFail() {
+        // given
+        final var index = new CategoryIdIndex();
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class, () -> index.put(IdUtils.uniqueId(), -1));
+
+        // then
+        Assertions.assertEquals("Values must not be negative", actualException.getMessage());
+    }
+}
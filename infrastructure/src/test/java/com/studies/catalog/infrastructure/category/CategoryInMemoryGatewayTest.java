@@ -0,0 +1,247 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
+import com.studies.catalog.domain.utils.IdUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+class CategoryInMemoryGatewayTest extends UnitTest {
+
+    private CategoryInMemoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.categoryGateway = new CategoryInMemoryGateway();
+    }
+
+    @Test
+    void givenCategories_whenCallsFindAllWithTerms_shouldReturnOnlyMatches() {
+        // given
+        final var movies = this.categoryGateway.save(Fixture.Categories.movies());
+        this.categoryGateway.save(Fixture.Categories.trailers());
+        this.categoryGateway.save(Fixture.Categories.violence());
+
+        // when
+        final var actualOutput = this.categoryGateway.findAll(new CategorySearchQuery(0, 10, "MOV", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(1, actualOutput.meta().total());
+        Assertions.assertEquals(movies.id(), actualOutput.data().get(0).id());
+    }
+
+    @Test
+    void givenCategories_whenCallsFindAllWithTheMiddleOfAWord_shouldNotMatch() {
+        // given
+        this.categoryGateway.save(Fixture.Categories.movies());
+        this.categoryGateway.save(Fixture.Categories.trailers());
+
+        // when
+        final var middleOutput = this.categoryGateway.findAll(new CategorySearchQuery(0, 10, "ovie", "name", "asc"));
+        final var prefixOutput = this.categoryGateway.findAll(new CategorySearchQuery(0, 10, "trail desc", "name", "asc"));
+
+        // then
+        Assertions.assertEquals(0, middleOutput.meta().total());
+        Assertions.assertEquals(List.of("Trailers"), prefixOutput.data().stream().map(Category::name).toList());
+    }
+
+    @Test
+    void givenCategories_whenCallsFindAllSortedDesc_shouldPageInOrder() {
+        // given
+        this.categoryGateway.save(Fixture.Categories.movies());
+        this.categoryGateway.save(Fixture.Categories.trailers());
+        this.categoryGateway.save(Fixture.Categories.violence());
+
+        // when
+        final var firstPage = this.categoryGateway.findAll(new CategorySearchQuery(0, 2, "", "name", "desc"));
+        final var secondPage = this.categoryGateway.findAll(new CategorySearchQuery(1, 2, "", "name", "desc"));
+
+        // then
+        Assertions.assertEquals(3, firstPage.meta().total());
+        Assertions.assertEquals(List.of("Violence", "Trailers"), firstPage.data().stream().map(Category::name).toList());
+        Assertions.assertEquals(List.of("Movies"), secondPage.data().stream().map(Category::name).toList());
+    }
+
+    @Test
+    void givenAnIndexedCategory_whenRenamed_shouldNotMatchTheOldName() {
+        // given
+        final var movies = this.categoryGateway.save(Fixture.Categories.movies());
+        final var renamed = Category.with(movies.id(), "Series", movies.description(), movies.active(),
+                movies.createdAt(), movies.updatedAt(), movies.deletedAt());
+
+        // when
+        this.categoryGateway.bulk(List.of(CategoryChange.save(renamed)));
+
+        // then
+        Assertions.assertEquals(0, this.categoryGateway.findAll(new CategorySearchQuery(0, 10, "movies", "name", "asc")).meta().total());
+        Assertions.assertEquals(1, this.categoryGateway.findAll(new CategorySearchQuery(0, 10, "series", "name", "asc")).meta().total());
+        Assertions.assertEquals(1, this.categoryGateway.count());
+    }
+
+    @Test
+    void givenAnIndexedCategory_whenDeleted_shouldDisappearFromSearch() {
+        // given
+        final var movies = this.categoryGateway.save(Fixture.Categories.movies());
+        this.categoryGateway.save(Fixture.Categories.trailers());
+
+        // when
+        this.categoryGateway.deleteById(movies.id());
+
+        // then
+        final var actualOutput = this.categoryGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+        Assertions.assertEquals(1, actualOutput.meta().total());
+        Assertions.assertEquals("Trailers", actualOutput.data().get(0).name());
+        Assertions.assertTrue(this.categoryGateway.findById(movies.id()).isEmpty());
+    }
+
+    @Test
+    void givenAVersionedCategory_whenBulkHasAnOlderVersion_shouldDiscardIt() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var stale = Category.with(movies.id(), "Stale", movies.description(), movies.active(),
+                movies.createdAt(), movies.updatedAt(), movies.deletedAt());
+
+        this.categoryGateway.bulk(List.of(CategoryChange.save(movies, 2L)));
+
+        final var staleChanges = List.of(CategoryChange.save(stale, 1L), CategoryChange.delete(movies.id(), 1L));
+
+        // when
+        final var actualResult = this.categoryGateway.bulk(staleChanges);
+
+        // then
+        Assertions.assertEquals("Movies", this.categoryGateway.findById(movies.id()).get().name());
+        Assertions.assertEquals(staleChanges, actualResult.discarded());
+    }
+
+    @Test
+    void givenDeletes_whenForgetDeletesOlderThanTheRetention_shouldDropOnlyTheExpiredOnes() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        this.categoryGateway.bulk(List.of(CategoryChange.delete(movies.id(), 2L), CategoryChange.delete(trailers.id(), 2L)));
+
+        // when
+        this.categoryGateway.forgetDeletesOlderThan(Duration.ofMinutes(1));
+        final var heldWithinRetention = this.categoryGateway.tombstones();
+
+        this.categoryGateway.forgetDeletesOlderThan(Duration.ZERO);
+
+        // then
+        Assertions.assertEquals(2, heldWithinRetention);
+        Assertions.assertEquals(0, this.categoryGateway.tombstones());
+    }
+
+    @Test
+    void givenChangesAppliedWhileLoading_whenLoadOlderSnapshot_shouldKeepTheChanges() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var renamed = Category.with(movies.id(), "Series", movies.description(), movies.active(),
+                movies.createdAt(), movies.updatedAt(), movies.deletedAt());
+
+        this.categoryGateway.bulk(List.of(CategoryChange.save(renamed, 2L), CategoryChange.delete(trailers.id())));
+
+        // when
+        this.categoryGateway.load(List.of(CategoryChange.save(movies, 1L), CategoryChange.save(trailers, 1L)));
+
+        // then
+        Assertions.assertEquals("Series", this.categoryGateway.findById(movies.id()).get().name());
+        Assertions.assertTrue(this.categoryGateway.findById(trailers.id()).isEmpty());
+        Assertions.assertEquals(1, this.categoryGateway.count());
+    }
+
+    @Test
+    void givenABulkRunningConcurrently_whenCallsFindAll_shouldSeeEitherTheWholeBatchOrNothing() throws Exception {
+        // given
+        final var categories = List.of(Fixture.Categories.movies(), Fixture.Categories.trailers(), Fixture.Categories.violence());
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+        this.categoryGateway.bulk(renamedTo("A", categories));
+
+        final var writer = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 500; i++) {
+                this.categoryGateway.bulk(renamedTo(i % 2 == 0 ? "B" : "A", categories));
+            }
+        });
+
+        // when
+        final var prefixes = new HashSet<Set<String>>();
+        while (!writer.isDone()) {
+            prefixes.add(this.categoryGateway.findAll(aQuery).data().stream()
+                    .map(category -> category.name().substring(0, 1))
+                    .collect(Collectors.toSet()));
+        }
+        writer.get();
+
+        // then
+        Assertions.assertTrue(prefixes.stream().allMatch(it -> it.size() == 1));
+    }
+
+    @Test
+    void givenCategories_whenCallsSuggest_shouldReturnNamesWithAWordStartingWithThePrefix() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var shortMovies = Category.with(IdUtils.uniqueId(), "Short Movies", null, true, movies.createdAt(), movies.updatedAt(), null);
+        final var trailers = Fixture.Categories.trailers();
+
+        this.categoryGateway.bulk(List.of(CategoryChange.save(movies), CategoryChange.save(shortMovies), CategoryChange.save(trailers)));
+
+        // when
+        final var currentOutput = this.categoryGateway.suggest(new CategorySuggestionQuery("MOV", 5));
+
+        // then
+        Assertions.assertEquals(List.of(movies.id(), shortMovies.id()), currentOutput.stream().map(Category::id).toList());
+    }
+
+    @Test
+    void givenARenamedCategory_whenCallsSuggest_shouldOnlyMatchTheNewName() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var renamed = Category.with(movies.id(), "Documentaries", movies.description(), movies.active(),
+                movies.createdAt(), movies.updatedAt(), movies.deletedAt());
+
+        this.categoryGateway.save(movies);
+
+        // when
+        this.categoryGateway.save(renamed);
+
+        // then
+        Assertions.assertTrue(this.categoryGateway.suggest(new CategorySuggestionQuery("mov", 5)).isEmpty());
+        Assertions.assertEquals(1, this.categoryGateway.suggest(new CategorySuggestionQuery("doc", 5)).size());
+    }
+
+    @Test
+    void givenSeveralTerms_whenCallsSuggest_shouldMatchLeadingTermsAsWholeWords() {
+        // given
+        final var now = Fixture.Categories.movies().createdAt();
+        final var shortMovies = Category.with(IdUtils.uniqueId(), "Short Movies", null, true, now, now, null);
+        final var shortcuts = Category.with(IdUtils.uniqueId(), "Shortcuts Movies", null, true, now, now, null);
+
+        this.categoryGateway.bulk(List.of(CategoryChange.save(shortMovies), CategoryChange.save(shortcuts)));
+
+        // when
+        final var currentOutput = this.categoryGateway.suggest(new CategorySuggestionQuery("short mo", 5));
+
+        // then
+        Assertions.assertEquals(List.of(shortMovies.id()), currentOutput.stream().map(Category::id).toList());
+    }
+
+    private static List<CategoryChange> renamedTo(final String prefix, final List<Category> categories) {
+        return categories.stream()
+                .map(it -> CategoryChange.save(Category.with(it.id(), prefix + it.name(), it.description(), it.active(),
+                        it.createdAt(), it.updatedAt(), it.deletedAt())))
+                .toList();
+    }
+}
@@ -0,0 +1,194 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.CategoryBulkResult;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.pagination.Pagination;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryReplicaProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryReplicaGatewayTest extends UnitTest {
+
+    @Mock
+    private CategoryElasticsearchGateway delegate;
+
+    private CategoryReplicaGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.categoryGateway = new CategoryReplicaGateway(delegate, new CategoryReplicaProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void givenAReplicaNotHydrated_whenCallsFindById_shouldReadFromElasticsearch() {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        when(delegate.findById(movies.id())).thenReturn(Optional.of(movies));
+
+        // when
+        final var actualOutput = this.categoryGateway.findById(movies.id());
+
+        // then
+        Assertions.assertFalse(this.categoryGateway.isHydrated());
+        Assertions.assertEquals(movies, actualOutput.get());
+        verify(delegate, times(1)).findById(eq(movies.id()));
+    }
+
+    @Test
+    void givenAHydratedReplica_whenCallsFindAll_shouldNotReadFromElasticsearch() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        givenIndexWith(List.of(CategoryChange.save(movies, 1L), CategoryChange.save(trailers, 1L)));
+
+        // when
+        this.categoryGateway.hydrate();
+        this.categoryGateway.markHydrated();
+
+        final var actualOutput = this.categoryGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        // then
+        Assertions.assertTrue(this.categoryGateway.isHydrated());
+        Assertions.assertEquals(2, actualOutput.meta().total());
+        Assertions.assertEquals(movies.id(), actualOutput.data().get(0).id());
+        verify(delegate, never()).findAll(any());
+    }
+
+    @Test
+    void givenAHydratedReplica_whenCallsFindAllWithCursor_shouldReadFromElasticsearch() {
+        // given
+        final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc", "eyJzIjpbIk1vdmllcyJdfQ");
+
+        givenIndexWith(List.of());
+        when(delegate.findAll(aQuery)).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        this.categoryGateway.hydrate();
+        this.categoryGateway.markHydrated();
+
+        // when
+        this.categoryGateway.findAll(aQuery);
+
+        // then
+        verify(delegate, times(1)).findAll(eq(aQuery));
+    }
+
+    @Test
+    void givenAHydratedReplica_whenCallsFindAllByRelevance_shouldReadFromElasticsearch() {
+        // given
+        final var aQuery = new CategorySearchQuery(0, 10, "filmes", CategorySearchQuery.RELEVANCE, "desc");
+
+        givenIndexWith(List.of(CategoryChange.save(Fixture.Categories.movies(), 1L)));
+        when(delegate.findAll(aQuery)).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        this.categoryGateway.hydrate();
+        this.categoryGateway.markHydrated();
+
+        // when
+        this.categoryGateway.findAll(aQuery);
+
+        // then
+        verify(delegate, times(1)).findAll(eq(aQuery));
+    }
+
+    @Test
+    void givenAHydratedReplica_whenCallsFindAllWithTerms_shouldReadFromElasticsearch() {
+        // given
+        final var aQuery = new CategorySearchQuery(0, 10, "filmes", "name", "asc");
+
+        givenIndexWith(List.of(CategoryChange.save(Fixture.Categories.movies(), 1L)));
+        when(delegate.findAll(aQuery)).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        this.categoryGateway.hydrate();
+        this.categoryGateway.markHydrated();
+
+        // when
+        this.categoryGateway.findAll(aQuery);
+
+        // then
+        verify(delegate, times(1)).findAll(eq(aQuery));
+    }
+
+    @Test
+    void givenChanges_whenCallsBulk_shouldLeaveTheReplicaToTheTopic() {
+        // given
+        final var movies = CategoryChange.save(Fixture.Categories.movies(), 1L);
+        final var trailers = CategoryChange.save(Fixture.Categories.trailers(), 1L);
+
+        givenIndexWith(List.of());
+        when(delegate.bulk(any())).thenReturn(new CategoryBulkResult(List.of(trailers), List.of()));
+
+        this.categoryGateway.hydrate();
+        this.categoryGateway.markHydrated();
+
+        // when
+        final var actualOutput = this.categoryGateway.bulk(List.of(movies, trailers));
+
+        // then
+        Assertions.assertEquals(List.of(trailers), actualOutput.failed());
+        Assertions.assertTrue(this.categoryGateway.findById(movies.id()).isEmpty());
+        Assertions.assertTrue(this.categoryGateway.findById(trailers.id()).isEmpty());
+        verify(delegate, times(1)).bulk(eq(List.of(movies, trailers)));
+    }
+
+    @Test
+    void givenADivergingIndex_whenCheckConsistency_shouldReportBothCounts() {
+        // given
+        givenIndexWith(List.of(CategoryChange.save(Fixture.Categories.movies(), 1L)));
+        when(delegate.count()).thenReturn(2L);
+
+        this.categoryGateway.hydrate();
+        this.categoryGateway.markHydrated();
+
+        // when
+        final var actualOutput = this.categoryGateway.checkConsistency();
+
+        // then
+        Assertions.assertFalse(actualOutput.isConsistent());
+        Assertions.assertEquals(1, actualOutput.replicaCount());
+        Assertions.assertEquals(2, actualOutput.indexCount());
+    }
+
+    @Test
+    void givenASnapshot_whenRestored_shouldServeItsCategories() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var aSnapshot = new CategorySnapshot(Instant.now(), List.of(), List.of(CategoryChange.save(movies, 1L)));
+
+        // when
+        this.categoryGateway.restore(aSnapshot);
+        this.categoryGateway.markHydrated();
+
+        // then
+        Assertions.assertEquals(movies.name(), this.categoryGateway.findById(movies.id()).get().name());
+        Assertions.assertEquals(List.of(movies.id()), this.categoryGateway.snapshot(List.of()).categories().stream().map(CategoryChange::id).toList());
+        verify(delegate, never()).scan(anyInt(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenIndexWith(final List<CategoryChange> changes) {
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<CategoryChange>>>getArgument(1).accept(changes);
+            return null;
+        }).when(delegate).scan(anyInt(), any(Consumer.class));
+    }
+}
@@ -0,0 +1,268 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.exceptions.InternalErrorException;
+import com.studies.catalog.infrastructure.category.models.CategoryDTO;
+import com.studies.catalog.infrastructure.category.models.CategoryLookupRequest;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryRestClientProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CategoryRestGatewayTest extends UnitTest {
+
+    private HttpServer server;
+    private CategoryRestGateway gateway;
+    private AtomicInteger requests;
+    private ConcurrentHashMap<String, StubResponse> responses;
+    private ConcurrentHashMap<String, Category> catalogue;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.requests = new AtomicInteger();
+        this.responses = new ConcurrentHashMap<>();
+        this.catalogue = new ConcurrentHashMap<>();
+
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.createContext("/api/categories/", this::handle);
+        this.server.start();
+
+        final var properties = new CategoryRestClientProperties();
+        properties.setBaseUrl("http://localhost:%s/api".formatted(server.getAddress().getPort()));
+        properties.setConnectTimeout(250);
+        properties.setReadTimeout(1_000);
+        properties.setBatchSize(100);
+
+        this.gateway = new CategoryRestGateway(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.server.stop(0);
+    }
+
+    @Test
+    void givenExistingId_whenCallsCategoryOfId_shouldReturnIt() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        stub(movies.id(), 200, Json.writeValueAsString(asDTO(movies)));
+
+        // when
+        final var currentOutput = this.gateway.categoryOfId(movies.id()).get();
+
+        // then
+        Assertions.assertEquals(movies.id(), currentOutput.id());
+        Assertions.assertEquals(movies.name(), currentOutput.name());
+        Assertions.assertEquals(movies.description(), currentOutput.description());
+        Assertions.assertEquals(movies.active(), currentOutput.active());
+        Assertions.assertEquals(movies.createdAt(), currentOutput.createdAt());
+        Assertions.assertEquals(movies.updatedAt(), currentOutput.updatedAt());
+        Assertions.assertEquals(movies.deletedAt(), currentOutput.deletedAt());
+    }
+
+    @Test
+    void givenUnknownId_whenCallsCategoryOfId_shouldReturnEmpty() {
+        // given
+        final var expectedId = "any";
+
+        // when
+        final var currentOutput = this.gateway.categoryOfId(expectedId);
+
+        // then
+        Assertions.assertTrue(currentOutput.isEmpty());
+    }
+
+    @Test
+    void givenAnIdWithReservedCharacters_whenCallsCategoryOfId_shouldSendItAsOnePathSegment() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var expectedId = "../lookup/a b?c#d";
+        stub(expectedId, 200, Json.writeValueAsString(asDTO(movies)));
+
+        // when
+        final var currentOutput = this.gateway.categoryOfId(expectedId);
+
+        // then
+        Assertions.assertEquals(movies.id(), currentOutput.get().id());
+        Assertions.assertEquals(1, this.requests.get());
+    }
+
+    @Test
+    void givenServerError_whenCallsCategoryOfId_shouldThrow() {
+        // given
+        final var expectedId = "broken";
+        stub(expectedId, 500, "{}");
+
+        // when/then
+        Assertions.assertThrows(InternalErrorException.class, () -> this.gateway.categoryOfId(expectedId));
+    }
+
+    @Test
+    void givenSlowServer_whenCallsCategoryOfId_shouldTimeout() {
+        // given
+        final var expectedId = "slow";
+        stub(expectedId, 200, "{}", new CountDownLatch(1));
+
+        // when/then
+        Assertions.assertThrows(InternalErrorException.class, () -> this.gateway.categoryOfId(expectedId));
+    }
+
+    @Test
+    void givenConcurrentCallsForSameId_whenCallsCategoryOfId_shouldHitUpstreamOnce() throws Exception {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var release = new CountDownLatch(1);
+        final var expectedCalls = 20;
+        final var expectedRequests = 1;
+
+        stub(movies.id(), 200, Json.writeValueAsString(asDTO(movies)), release);
+
+        // when
+        final var callers = Executors.newFixedThreadPool(expectedCalls);
+        final var calls = new ArrayList<CompletableFuture<String>>();
+        for (int i = 0; i < expectedCalls; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> this.gateway.categoryOfId(movies.id()).get().id(), callers));
+        }
+
+        while (this.requests.get() == 0) {
+            Thread.onSpinWait();
+        }
+        TimeUnit.MILLISECONDS.sleep(100);
+        release.countDown();
+
+        // then
+        for (final var call : calls) {
+            Assertions.assertEquals(movies.id(), call.get(5, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(expectedRequests, this.requests.get());
+
+        callers.shutdown();
+    }
+
+    @Test
+    void givenManyIds_whenCallsCategoriesOfIds_shouldLookThemUpInBatches() {
+        // given
+        final var expectedIds = new ArrayList<String>();
+        for (int i = 0; i < 250; i++) {
+            final var aCategory = Fixture.Categories.movies();
+            expectedIds.add(aCategory.id());
+            if (i % 2 == 0) {
+                this.catalogue.put(aCategory.id(), aCategory);
+            }
+        }
+        final var expectedRequests = 3;
+        final var expectedFound = 125;
+
+        // when
+        final var currentOutput = this.gateway.categoriesOfIds(expectedIds);
+
+        // then
+        Assertions.assertEquals(expectedRequests, this.requests.get());
+        Assertions.assertEquals(expectedFound, currentOutput.size());
+
+        this.catalogue.values().forEach(expected -> {
+            final var current = currentOutput.get(expected.id());
+            Assertions.assertEquals(expected.name(), current.name());
+            Assertions.assertEquals(expected.createdAt(), current.createdAt());
+        });
+    }
+
+    @Test
+    void givenServerError_whenCallsCategoriesOfIds_shouldThrow() {
+        // given
+        this.server.removeContext("/api/categories/");
+        this.server.createContext("/api/categories/", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+
+        // when/then
+        Assertions.assertThrows(InternalErrorException.class, () -> this.gateway.categoriesOfIds(List.of("123")));
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        this.requests.incrementAndGet();
+
+        if (exchange.getRequestURI().getPath().endsWith("/lookup")) {
+            final var aRequest = Json.readValue(
+                    new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8), CategoryLookupRequest.class);
+
+            final var found = aRequest.ids().stream()
+                    .map(this.catalogue::get)
+                    .filter(Objects::nonNull)
+                    .map(CategoryRestGatewayTest::asDTO)
+                    .toList();
+
+            reply(exchange, 200, Json.writeValueAsString(found));
+            return;
+        }
+
+        final var path = exchange.getRequestURI().getRawPath();
+        final var anId = URLDecoder.decode(path.substring(path.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+        final var response = this.responses.getOrDefault(anId, new StubResponse(404, "", null));
+
+        if (response.latch() != null) {
+            try {
+                response.latch().await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        reply(exchange, response.status(), response.body());
+    }
+
+    private static void reply(final HttpExchange exchange, final int status, final String aBody) throws IOException {
+        final var body = aBody.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    private void stub(final String anId, final int status, final String body) {
+        stub(anId, status, body, null);
+    }
+
+    private void stub(final String anId, final int status, final String body, final CountDownLatch latch) {
+        this.responses.put(anId, new StubResponse(status, body, latch));
+    }
+
+    private static CategoryDTO asDTO(final Category aCategory) {
+        return new CategoryDTO(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.active(),
+                aCategory.createdAt(),
+                aCategory.updatedAt(),
+                aCategory.deletedAt()
+        );
+    }
+
+    private record StubResponse(int status, String body, CountDownLatch latch) {
+    }
+}
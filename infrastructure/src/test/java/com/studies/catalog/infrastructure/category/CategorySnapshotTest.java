@@ -0,0 +1,73 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.domain.category.CategoryChange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+class CategorySnapshotTest extends UnitTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void givenASnapshot_whenWrittenAndRead_shouldRestoreCategoriesAndPositions() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Category.with("trailers", "Trailers", null, false, Instant.now(), null, Instant.now());
+        final var expectedPositions = List.of(new CategorySnapshot.Position("categories", 0, 42L));
+        final var path = directory.resolve("snapshots/categories.snapshot");
+
+        // when
+        new CategorySnapshot(Instant.now(), expectedPositions, List.of(CategoryChange.save(movies, 7L), CategoryChange.save(trailers))).write(path);
+        final var actualOutput = CategorySnapshot.read(path).orElseThrow();
+
+        // then
+        Assertions.assertEquals(expectedPositions, actualOutput.positions());
+        Assertions.assertEquals(2, actualOutput.categories().size());
+
+        final var actualMovies = actualOutput.categories().get(0);
+        Assertions.assertEquals(movies.id(), actualMovies.id());
+        Assertions.assertEquals(movies.name(), actualMovies.category().name());
+        Assertions.assertEquals(movies.description(), actualMovies.category().description());
+        Assertions.assertEquals(movies.createdAt(), actualMovies.category().createdAt());
+        Assertions.assertEquals(7L, actualMovies.version());
+
+        final var actualTrailers = actualOutput.categories().get(1);
+        Assertions.assertNull(actualTrailers.category().description());
+        Assertions.assertNull(actualTrailers.category().updatedAt());
+        Assertions.assertEquals(trailers.deletedAt(), actualTrailers.category().deletedAt());
+        Assertions.assertFalse(actualTrailers.category().active());
+        Assertions.assertNull(actualTrailers.version());
+    }
+
+    @Test
+    void givenACorruptedSnapshot_whenRead_shouldBeIgnored() throws Exception {
+        // given
+        final var path = directory.resolve("categories.snapshot");
+        new CategorySnapshot(Instant.now(), List.of(), List.of(CategoryChange.save(Fixture.Categories.movies()))).write(path);
+
+        final var bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(path, bytes);
+
+        // when
+        final var actualOutput = CategorySnapshot.read(path);
+
+        // then
+        Assertions.assertTrue(actualOutput.isEmpty());
+    }
+
+    @Test
+    void givenNoSnapshot_whenRead_shouldReturnEmpty() {
+        Assertions.assertTrue(CategorySnapshot.read(directory.resolve("missing.snapshot")).isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package com.studies.catalog.infrastructure.category;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+class CategoryStoreTest extends UnitTest {
+
+    private CategoryStore store;
+
+    @BeforeEach
+    void setUp() {
+        this.store = new CategoryStore();
+    }
+
+    @Test
+    void givenACategory_whenAddedAndRead_shouldMaterializeTheSameValues() {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        // when
+        final var slot = this.store.add(movies, 3L);
+        final var actualOutput = this.store.get(slot);
+
+        // then
+        Assertions.assertNotSame(movies, actualOutput);
+        Assertions.assertEquals(movies.id(), actualOutput.id());
+        Assertions.assertEquals(movies.name(), actualOutput.name());
+        Assertions.assertEquals(movies.description(), actualOutput.description());
+        Assertions.assertEquals(movies.active(), actualOutput.active());
+        Assertions.assertEquals(movies.createdAt(), actualOutput.createdAt());
+        Assertions.assertEquals(movies.updatedAt(), actualOutput.updatedAt());
+        Assertions.assertNull(actualOutput.deletedAt());
+        Assertions.assertEquals(3L, this.store.version(slot));
+    }
+
+    @Test
+    void givenAnIdThatIsNotHex_whenAdded_shouldKeepItAsText() {
+        // given
+        final var aCategory = Category.with("legacy-1", "Ação", null, false, Instant.ofEpochMilli(1), null, null);
+
+        // when
+        final var slot = this.store.add(aCategory, null);
+
+        // then
+        Assertions.assertEquals("legacy-1", this.store.id(slot));
+        Assertions.assertEquals("Ação", this.store.name(slot));
+        Assertions.assertNull(this.store.description(slot));
+        Assertions.assertNull(this.store.version(slot));
+    }
+
+    @Test
+    void givenRemovedSlots_whenAddingAgain_shouldReuseThem() {
+        // given
+        final var movies = this.store.add(Fixture.Categories.movies(), null);
+        this.store.add(Fixture.Categories.trailers(), null);
+
+        // when
+        this.store.remove(movies);
+        final var violence = this.store.add(Fixture.Categories.violence(), null);
+
+        // then
+        Assertions.assertEquals(movies, violence);
+        Assertions.assertEquals(2, this.store.count());
+        Assertions.assertEquals("Violence", this.store.name(violence));
+    }
+
+    @Test
+    void givenHexIds_whenCompared_shouldFollowTheirTextOrder() {
+        // given
+        final var first = this.store.add(Category.with("0f" + "0".repeat(30), "A", null, true, null, null, null), null);
+        final var second = this.store.add(Category.with("f0" + "0".repeat(30), "A", null, true, null, null, null), null);
+
+        // when
+        final var actualOutput = this.store.compareIds(first, second);
+
+        // then
+        Assertions.assertTrue(actualOutput < 0);
+    }
+
+    @Test
+    void givenACopy_whenWritten_shouldLeaveTheOriginalUntouched() {
+        // given
+        final var movies = this.store.add(Fixture.Categories.movies(), 1L);
+        final var copy = this.store.copy();
+
+        // when
+        copy.remove(movies);
+        final var violence = copy.add(Fixture.Categories.violence(), 2L);
+
+        // then
+        Assertions.assertEquals(movies, violence);
+        Assertions.assertEquals("Violence", copy.name(violence));
+        Assertions.assertEquals("Movies", this.store.name(movies));
+        Assertions.assertEquals(1L, this.store.version(movies));
+        Assertions.assertEquals(1, this.store.count());
+    }
+}
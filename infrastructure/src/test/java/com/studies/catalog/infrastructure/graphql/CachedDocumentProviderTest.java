@@ -0,0 +1,55 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLDocumentCacheProperties;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.Parser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CachedDocumentProviderTest extends UnitTest {
+
+    @Test
+    void givenTheSameQuery_whenExecutedTwice_shouldParseItOnce() throws Exception {
+        // given
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var provider = new CachedDocumentProvider(new GraphQLDocumentCacheProperties(), meterRegistry);
+        final var parses = new AtomicInteger();
+        final var query = "{ categories { id } }";
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            provider.getDocumentAsync(ExecutionInput.newExecutionInput(query).build(), input -> {
+                parses.incrementAndGet();
+                return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+            }).get();
+        }
+
+        // then
+        Assertions.assertEquals(1, parses.get());
+        Assertions.assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "graphql.documents").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void givenAnInvalidQuery_whenExecutedTwice_shouldNotCacheIt() throws Exception {
+        // given
+        final var provider = new CachedDocumentProvider(new GraphQLDocumentCacheProperties(), new SimpleMeterRegistry());
+        final var parses = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            provider.getDocumentAsync(ExecutionInput.newExecutionInput("{ unknown }").build(), input -> {
+                parses.incrementAndGet();
+                return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().message("invalid").build());
+            }).get();
+        }
+
+        // then
+        Assertions.assertEquals(2, parses.get());
+    }
+}
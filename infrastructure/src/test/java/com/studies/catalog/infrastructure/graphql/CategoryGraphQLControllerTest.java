@@ -1,11 +1,14 @@
 package com.studies.catalog.infrastructure.graphql;
 
+import com.studies.catalog.application.category.get.GetCategoriesByIdUseCase;
 import com.studies.catalog.application.category.list.ListCategoryOutput;
 import com.studies.catalog.application.category.list.ListCategoryUseCase;
 import com.studies.catalog.application.category.save.SaveCategoryUseCase;
+import com.studies.catalog.application.category.suggest.SuggestCategoriesUseCase;
 import com.studies.catalog.domain.Fixture;
 import com.studies.catalog.domain.category.Category;
 import com.studies.catalog.domain.category.CategorySearchQuery;
+import com.studies.catalog.domain.category.CategorySuggestionQuery;
 import com.studies.catalog.domain.pagination.Pagination;
 import com.studies.catalog.domain.utils.IdUtils;
 import com.studies.catalog.domain.utils.InstantUtils;
@@ -17,8 +20,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.graphql.test.tester.GraphQlTester;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +39,12 @@ class CategoryGraphQLControllerTest {
     @MockBean
     private SaveCategoryUseCase saveCategoryUseCase;
 
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
+    @MockBean
+    private GetCategoriesByIdUseCase getCategoriesByIdUseCase;
+
     @Autowired
     private GraphQlTester graphql;
 
@@ -50,8 +62,8 @@ class CategoryGraphQLControllerTest {
         final var expectedDirection = "asc";
         final var expectedSearch = "";
 
-        when(this.listCategoryUseCase.execute(any()))
-                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedCategories.size(), expectedCategories));
+        when(this.listCategoryUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(new Pagination<>(expectedPage, expectedPerPage, expectedCategories.size(), expectedCategories)));
 
         final var query = """
                 {
@@ -75,7 +87,7 @@ class CategoryGraphQLControllerTest {
 
         final var capturer = ArgumentCaptor.forClass(CategorySearchQuery.class);
 
-        verify(this.listCategoryUseCase, times(1)).execute(capturer.capture());
+        verify(this.listCategoryUseCase, times(1)).executeAsync(capturer.capture());
 
         final var currentQuery = capturer.getValue();
         Assertions.assertEquals(expectedPage, currentQuery.page());
@@ -83,6 +95,7 @@ class CategoryGraphQLControllerTest {
         Assertions.assertEquals(expectedSort, currentQuery.sort());
         Assertions.assertEquals(expectedDirection, currentQuery.direction());
         Assertions.assertEquals(expectedSearch, currentQuery.terms());
+        Assertions.assertEquals(Set.of("id", "name"), currentQuery.fields());
     }
 
     @Test
@@ -99,8 +112,8 @@ class CategoryGraphQLControllerTest {
         final var expectedDirection = "desc";
         final var expectedSearch = "asd";
 
-        when(this.listCategoryUseCase.execute(any()))
-                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedCategories.size(), expectedCategories));
+        when(this.listCategoryUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(new Pagination<>(expectedPage, expectedPerPage, expectedCategories.size(), expectedCategories)));
 
         final var query = """
                 {
@@ -124,7 +137,7 @@ class CategoryGraphQLControllerTest {
 
         final var capturer = ArgumentCaptor.forClass(CategorySearchQuery.class);
 
-        verify(this.listCategoryUseCase, times(1)).execute(capturer.capture());
+        verify(this.listCategoryUseCase, times(1)).executeAsync(capturer.capture());
 
         final var currentQuery = capturer.getValue();
         Assertions.assertEquals(expectedPage, currentQuery.page());
@@ -134,6 +147,143 @@ class CategoryGraphQLControllerTest {
         Assertions.assertEquals(expectedSearch, currentQuery.terms());
     }
 
+    @Test
+    void givenCursorWhenCallsCategoriesConnectionShouldReturnNextPageInfo() {
+        // given
+        final var expectedCategories = List.of(
+                ListCategoryOutput.from(Fixture.Categories.movies()),
+                ListCategoryOutput.from(Fixture.Categories.trailers())
+        );
+
+        final var expectedFirst = 2;
+        final var expectedAfter = "eyJzIjpbIk1vdmllcyJdfQ";
+        final var expectedEndCursor = "eyJzIjpbIlRyYWlsZXJzIl19";
+        final var expectedTotal = 3;
+
+        when(this.listCategoryUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(new Pagination<>(0, expectedFirst, expectedTotal, expectedEndCursor, expectedCategories)));
+
+        final var query = """
+                {
+                  categoriesConnection(first: %s, after: "%s") {
+                    nodes {
+                      id
+                      name
+                    }
+                    pageInfo {
+                      endCursor
+                      hasNextPage
+                    }
+                    totalCount
+                  }
+                }
+                """.formatted(expectedFirst, expectedAfter);
+
+        // when
+        final var response = this.graphql.document(query).execute();
+
+        // then
+        final var currentCategories = response.path("categoriesConnection.nodes")
+                .entityList(ListCategoryOutput.class)
+                .get();
+
+        Assertions.assertEquals(expectedCategories, currentCategories);
+
+        response.path("categoriesConnection.pageInfo.endCursor").entity(String.class).isEqualTo(expectedEndCursor)
+                .path("categoriesConnection.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true)
+                .path("categoriesConnection.totalCount").entity(Integer.class).isEqualTo(expectedTotal);
+
+        final var capturer = ArgumentCaptor.forClass(CategorySearchQuery.class);
+
+        verify(this.listCategoryUseCase, times(1)).executeAsync(capturer.capture());
+
+        final var currentQuery = capturer.getValue();
+        Assertions.assertEquals(expectedFirst, currentQuery.perPage());
+        Assertions.assertEquals(expectedAfter, currentQuery.cursor());
+        Assertions.assertEquals(Set.of("id", "name"), currentQuery.fields());
+        Assertions.assertEquals("name", currentQuery.sort());
+        Assertions.assertEquals("asc", currentQuery.direction());
+    }
+
+    @Test
+    void givenAPrefixWhenCallsSuggestCategoriesShouldReturnTheSuggestions() {
+        // given
+        final var expectedCategories = List.of(ListCategoryOutput.from(Fixture.Categories.movies()));
+        final var expectedPrefix = "mov";
+
+        when(this.suggestCategoriesUseCase.execute(any()))
+                .thenReturn(expectedCategories);
+
+        final var query = """
+                {
+                  suggestCategories(prefix: "%s") {
+                    id
+                    name
+                  }
+                }
+                """.formatted(expectedPrefix);
+
+        // when
+        final var currentCategories = this.graphql.document(query).execute()
+                .path("suggestCategories")
+                .entityList(ListCategoryOutput.class)
+                .get();
+
+        // then
+        Assertions.assertEquals(expectedCategories, currentCategories);
+
+        final var capturer = ArgumentCaptor.forClass(CategorySuggestionQuery.class);
+
+        verify(this.suggestCategoriesUseCase, times(1)).execute(capturer.capture());
+
+        Assertions.assertEquals(expectedPrefix, capturer.getValue().prefix());
+        Assertions.assertEquals(5, capturer.getValue().limit());
+    }
+
+    @Test
+    void givenSeveralIdFieldsWhenCallsCategoriesShouldFetchAllIdsOnce() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var unknownId = IdUtils.uniqueId();
+
+        when(this.getCategoriesByIdUseCase.executeAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(movies, trailers)));
+
+        final var query = """
+                {
+                  first: category(id: "%s") {
+                    name
+                  }
+                  second: category(id: "%s") {
+                    name
+                  }
+                  categoriesByIds(ids: ["%s", "%s", "%s"]) {
+                    id
+                    name
+                  }
+                }
+                """.formatted(movies.id(), trailers.id(), trailers.id(), unknownId, movies.id());
+
+        // when
+        final var response = this.graphql.document(query).execute();
+
+        // then
+        response.path("first.name").entity(String.class).isEqualTo(movies.name())
+                .path("second.name").entity(String.class).isEqualTo(trailers.name())
+                .path("categoriesByIds[0].id").entity(String.class).isEqualTo(trailers.id())
+                .path("categoriesByIds[1]").valueIsNull()
+                .path("categoriesByIds[2].id").entity(String.class).isEqualTo(movies.id());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<String>> capturer = ArgumentCaptor.forClass(Collection.class);
+
+        verify(this.getCategoriesByIdUseCase, times(1)).executeAsync(capturer.capture());
+
+        Assertions.assertEquals(3, capturer.getValue().size());
+        Assertions.assertEquals(Set.of(movies.id(), trailers.id(), unknownId), Set.copyOf(capturer.getValue()));
+    }
+
     @Test
     void givenCategoryInputWhenCallsSaveCategoryMutationShouldPersistAndReturnIt() {
         // given
@@ -0,0 +1,141 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLPersistedQueryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class PersistedQueryFilterTest extends UnitTest {
+
+    private static final String QUERY = "{ categories { id name } }";
+
+    private PersistedQueryFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        this.filter = new PersistedQueryFilter(new GraphQLPersistedQueryProperties(), new SimpleMeterRegistry(), "/graphql");
+    }
+
+    @Test
+    void givenAnUnknownHash_whenCallsGraphQL_shouldAnswerPersistedQueryNotFound() throws Exception {
+        // given
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        // when
+        this.filter.doFilter(requestOf(null, QueryHash.of(QUERY)), response, chain);
+
+        // then
+        Assertions.assertNull(chain.getRequest());
+        Assertions.assertTrue(response.getContentAsString().contains("PERSISTED_QUERY_NOT_FOUND"));
+    }
+
+    @Test
+    void givenARegisteredHash_whenCallsGraphQLWithoutQuery_shouldForwardTheQueryText() throws Exception {
+        // given
+        final var hash = QueryHash.of(QUERY);
+        this.filter.doFilter(requestOf(QUERY, hash), new MockHttpServletResponse(), new MockFilterChain());
+
+        final var chain = new MockFilterChain();
+
+        // when
+        this.filter.doFilter(requestOf(null, hash), new MockHttpServletResponse(), chain);
+
+        // then
+        final var forwarded = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(forwarded.contains(QUERY));
+    }
+
+    @Test
+    void givenAHashNotMatchingTheQuery_whenCallsGraphQL_shouldRejectIt() throws Exception {
+        // given
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        // when
+        this.filter.doFilter(requestOf(QUERY, QueryHash.of("{ other }")), response, chain);
+
+        // then
+        Assertions.assertNull(chain.getRequest());
+        Assertions.assertTrue(response.getContentAsString().contains("PERSISTED_QUERY_HASH_MISMATCH"));
+    }
+
+    @Test
+    void givenABodyOverTheLimit_whenCallsGraphQL_shouldRefuseItUnread() throws Exception {
+        // given
+        final var properties = new GraphQLPersistedQueryProperties();
+        properties.setMaxBodySize(DataSize.ofBytes(64));
+        final var filter = new PersistedQueryFilter(properties, new SimpleMeterRegistry(), "/graphql");
+
+        final var chain = new MockFilterChain();
+        final var response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(requestOf(QUERY, QueryHash.of(QUERY)), response, chain);
+
+        // then
+        Assertions.assertNull(chain.getRequest());
+        Assertions.assertEquals(413, response.getStatus());
+        Assertions.assertTrue(response.getContentAsString().contains("PAYLOAD_TOO_LARGE"));
+    }
+
+    @Test
+    void givenAForwardedRequest_whenTheHandlerReadsItAsynchronously_shouldHaveTheWholeBodyAvailable() throws Exception {
+        // given
+        final var chain = new MockFilterChain();
+        this.filter.doFilter(requestOf(QUERY, QueryHash.of(QUERY)), new MockHttpServletResponse(), chain);
+
+        final var input = chain.getRequest().getInputStream();
+        final var read = new ByteArrayOutputStream();
+        final var allDataRead = new AtomicBoolean();
+
+        // when
+        input.setReadListener(new ReadListener() {
+
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (input.isReady() && !input.isFinished()) {
+                    read.write(input.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                Assertions.fail(t);
+            }
+        });
+
+        // then
+        Assertions.assertTrue(allDataRead.get());
+        Assertions.assertTrue(read.toString(StandardCharsets.UTF_8).contains(QUERY));
+    }
+
+    private static MockHttpServletRequest requestOf(final String query, final String hash) {
+        final var request = new MockHttpServletRequest("POST", "/graphql");
+        request.setServletPath("/graphql");
+        request.setContentType("application/json");
+
+        final var queryField = query != null ? "\"query\": \"%s\", ".formatted(query) : "";
+        request.setContent("""
+                {%s"extensions": {"persistedQuery": {"version": 1, "sha256Hash": "%s"}}}
+                """.formatted(queryField, hash).getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
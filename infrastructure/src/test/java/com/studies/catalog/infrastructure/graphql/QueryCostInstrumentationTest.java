@@ -0,0 +1,140 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLLimitsProperties;
+import graphql.ExecutionInput;
+import graphql.GraphQL;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class QueryCostInstrumentationTest extends UnitTest {
+
+    private static final String SCHEMA = """
+            type Query {
+                categories(perPage: Int = 10): [Category]
+            }
+
+            type Category {
+                id: ID
+                name: String
+                related(first: Int = 5): [Category]
+            }
+            """;
+
+    private GraphQLLimitsProperties properties;
+    private AtomicInteger fetches;
+    private GraphQL graphQL;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new GraphQLLimitsProperties();
+        this.properties.setDefaults(new GraphQLLimitsProperties.Limits(500, 3));
+        this.properties.setRoles(Map.of("CATALOG_ADMIN", new GraphQLLimitsProperties.Limits(5_000, 3)));
+        this.properties.setMaxPageSize(1_000);
+        this.fetches = new AtomicInteger();
+
+        final var wiring = RuntimeWiring.newRuntimeWiring()
+                .type("Query", type -> type.dataFetcher("categories", env -> {
+                    this.fetches.incrementAndGet();
+                    return List.of();
+                }))
+                .build();
+        final var schema = new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), wiring);
+
+        this.graphQL = GraphQL.newGraphQL(schema)
+                .instrumentation(new QueryCostInstrumentation(this.properties))
+                .build();
+    }
+
+    @Test
+    void givenAPageWithinTheLimits_whenExecuted_shouldFetchIt() {
+        // when
+        final var result = this.graphQL.execute("{ categories(perPage: 100) { id name } }");
+
+        // then
+        Assertions.assertTrue(result.getErrors().isEmpty());
+        Assertions.assertEquals(1, this.fetches.get());
+    }
+
+    @Test
+    void givenAHugePage_whenExecuted_shouldRejectItBeforeFetching() {
+        // when
+        final var result = this.graphQL.execute("{ categories(perPage: 100000) { id name } }");
+
+        // then
+        Assertions.assertEquals(1, result.getErrors().size());
+        Assertions.assertTrue(result.getErrors().get(0).getMessage().startsWith("Query cost"));
+        Assertions.assertEquals(0, this.fetches.get());
+    }
+
+    @Test
+    void givenNestedLists_whenExecuted_shouldMultiplyTheirSizes() {
+        // when
+        final var result = this.graphQL.execute("{ categories(perPage: 30) { related(first: 20) { id } } }");
+
+        // then
+        Assertions.assertFalse(result.getErrors().isEmpty());
+        Assertions.assertEquals(0, this.fetches.get());
+    }
+
+    @Test
+    void givenARoleWithHigherLimits_whenExecuted_shouldAllowTheLargerPage() {
+        // given
+        final var input = ExecutionInput.newExecutionInput("{ categories(perPage: 1000) { id name } }")
+                .graphQLContext(Map.of(GraphQLLimitsProperties.Limits.class, this.properties.limitsFor(List.of("CATALOG_VIDEOS", "CATALOG_ADMIN"))))
+                .build();
+
+        // when
+        final var result = this.graphQL.execute(input);
+
+        // then
+        Assertions.assertTrue(result.getErrors().isEmpty());
+        Assertions.assertEquals(1, this.fetches.get());
+    }
+
+    @Test
+    void givenATooDeepQuery_whenExecuted_shouldRejectIt() {
+        // when
+        final var result = this.graphQL.execute("{ categories(perPage: 1) { related(first: 1) { related(first: 1) { related(first: 1) { id } } } } }");
+
+        // then
+        Assertions.assertEquals(1, result.getErrors().size());
+        Assertions.assertTrue(result.getErrors().get(0).getMessage().startsWith("Query depth"));
+        Assertions.assertEquals(0, this.fetches.get());
+    }
+
+    @Test
+    void givenAnEmptyPage_whenExecuted_shouldRejectTheArgument() {
+        // when
+        final var result = this.graphQL.execute("{ categories(perPage: 0) { id name } }");
+
+        // then
+        Assertions.assertEquals(1, result.getErrors().size());
+        Assertions.assertEquals("Argument 'perPage' of 'categories' must be between 1 and 1000, got 0", result.getErrors().get(0).getMessage());
+        Assertions.assertEquals(0, this.fetches.get());
+    }
+
+    @Test
+    void givenAPageOverTheMaxPageSize_whenExecutedWithinTheCost_shouldRejectTheArgument() {
+        // given
+        final var input = ExecutionInput.newExecutionInput("{ categories(perPage: 1001) { id } }")
+                .graphQLContext(Map.of(GraphQLLimitsProperties.Limits.class, new GraphQLLimitsProperties.Limits(1_000_000, 3)))
+                .build();
+
+        // when
+        final var result = this.graphQL.execute(input);
+
+        // then
+        Assertions.assertEquals(1, result.getErrors().size());
+        Assertions.assertEquals("Argument 'perPage' of 'categories' must be between 1 and 1000, got 1001", result.getErrors().get(0).getMessage());
+        Assertions.assertEquals(0, this.fetches.get());
+    }
+}
@@ -0,0 +1,117 @@
+package com.studies.catalog.infrastructure.graphql;
+
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLLimitsProperties;
+import com.studies.catalog.infrastructure.configuration.properties.GraphQLLimitsProperties.Limits;
+import graphql.ExecutionInput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.server.WebGraphQlRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueryLimitsInterceptorTest extends UnitTest {
+
+    private static final Limits DEFAULTS = new Limits(1_000, 6);
+    private static final Limits ADMIN = new Limits(10_000, 5);
+    private static final Limits CATEGORIES = new Limits(2_000, 8);
+
+    @Mock
+    private WebGraphQlRequest request;
+
+    @Mock
+    private WebGraphQlInterceptor.Chain chain;
+
+    private QueryLimitsInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        final var properties = new GraphQLLimitsProperties();
+        properties.setDefaults(DEFAULTS);
+        properties.setRoles(Map.of("CATALOG_ADMIN", ADMIN, "CATALOG_CATEGORIES", CATEGORIES));
+        this.interceptor = new QueryLimitsInterceptor(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void givenAConfiguredRole_whenIntercepts_shouldPassItsLimits() {
+        // given
+        authenticateWith("ROLE_CATALOG_ADMIN", "SCOPE_openid");
+
+        // when
+        final var actualLimits = intercept();
+
+        // then
+        Assertions.assertEquals(ADMIN, actualLimits);
+    }
+
+    @Test
+    void givenSeveralConfiguredRoles_whenIntercepts_shouldPassTheMostGenerousOfEach() {
+        // given
+        authenticateWith("ROLE_CATALOG_ADMIN", "ROLE_CATALOG_CATEGORIES");
+
+        // when
+        final var actualLimits = intercept();
+
+        // then
+        Assertions.assertEquals(new Limits(10_000, 8), actualLimits);
+    }
+
+    @Test
+    void givenAnAuthorityWithoutTheRolePrefix_whenIntercepts_shouldPassTheDefaults() {
+        // given
+        authenticateWith("CATALOG_ADMIN", "SCOPE_CATALOG_ADMIN");
+
+        // when
+        final var actualLimits = intercept();
+
+        // then
+        Assertions.assertEquals(DEFAULTS, actualLimits);
+    }
+
+    @Test
+    void givenNoAuthentication_whenIntercepts_shouldPassTheDefaults() {
+        // when
+        final var actualLimits = intercept();
+
+        // then
+        Assertions.assertEquals(DEFAULTS, actualLimits);
+    }
+
+    private static void authenticateWith(final String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null, authorities));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Limits intercept() {
+        when(chain.next(request)).thenReturn(Mono.empty());
+
+        this.interceptor.intercept(request, chain).block();
+
+        final ArgumentCaptor<BiFunction<ExecutionInput, ExecutionInput.Builder, ExecutionInput>> configurer =
+                ArgumentCaptor.forClass(BiFunction.class);
+        verify(request, times(1)).configureExecutionInput(configurer.capture());
+
+        final var input = configurer.getValue()
+                .apply(null, ExecutionInput.newExecutionInput("{ categories { id } }"));
+        return input.getGraphQLContext().get(Limits.class);
+    }
+}
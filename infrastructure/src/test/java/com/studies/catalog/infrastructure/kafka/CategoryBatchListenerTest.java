@@ -0,0 +1,233 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.application.category.bulk.BulkCategoryOutput;
+import com.studies.catalog.application.category.bulk.BulkCategoryUseCase;
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.infrastructure.category.CategoryChangeFeed;
+import com.studies.catalog.infrastructure.category.CategoryFeedFilter;
+import com.studies.catalog.infrastructure.category.CategoryGateway;
+import com.studies.catalog.infrastructure.category.models.CategoryChangeEvent;
+import com.studies.catalog.infrastructure.category.models.CategoryEvent;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryConsumerProperties;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryFeedProperties;
+import com.studies.catalog.infrastructure.kafka.connect.MessageValue;
+import com.studies.catalog.infrastructure.kafka.connect.Operation;
+import com.studies.catalog.infrastructure.kafka.connect.Source;
+import com.studies.catalog.infrastructure.kafka.connect.ValuePayload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryBatchListenerTest extends UnitTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.categories";
+
+    private CategoryBatchListener categoryListener;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CategoryChangeFeed changeFeed;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private BulkCategoryUseCase bulkCategoryUseCase;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        final var properties = new CategoryConsumerProperties();
+        final var resolver = new CategoryResolver(categoryGateway, properties);
+
+        final var feedProperties = new CategoryFeedProperties();
+        feedProperties.setEnabled(true);
+        this.changeFeed = new CategoryChangeFeed(feedProperties);
+
+        this.categoryListener =
+                new CategoryBatchListener(resolver, bulkCategoryUseCase, kafkaTemplate, changeFeed, meterRegistry, properties);
+    }
+
+    @Test
+    void givenBatchOfMessages_whenProcessGoesOK_shouldApplyThemInOneBulk() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        final var records = List.of(
+                aRecord(0, movies.id(), Operation.CREATE),
+                aRecord(1, trailers.id(), Operation.DELETE)
+        );
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any())).thenReturn(Optional.of(movies));
+        when(bulkCategoryUseCase.execute(any())).thenReturn(new BulkCategoryOutput(2, List.of(), List.of()));
+
+        // when
+        this.categoryListener.onMessages(records);
+
+        // then
+        verify(categoryGateway, times(1)).changedCategoryOfId(eq(movies.id()), any());
+        verify(categoryGateway, never()).changedCategoriesOfIds(any());
+
+        final var capturer = ArgumentCaptor.forClass(List.class);
+        verify(bulkCategoryUseCase, times(1)).execute(capturer.capture());
+
+        final var expectedChanges = List.of(CategoryChange.save(movies), CategoryChange.delete(trailers.id()));
+        Assertions.assertEquals(expectedChanges, capturer.getValue());
+
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    void givenRejectedItem_whenProcessBatch_shouldForwardOnlyItToRetryTopic() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        final var moviesRecord = aRecord(0, movies.id(), Operation.UPDATE);
+        final var trailersRecord = aRecord(1, trailers.id(), Operation.UPDATE);
+
+        when(categoryGateway.changedCategoriesOfIds(any())).thenReturn(Map.of(movies.id(), movies, trailers.id(), trailers));
+        when(bulkCategoryUseCase.execute(any())).thenAnswer(t -> {
+            final List<CategoryChange> changes = t.getArgument(0);
+            return new BulkCategoryOutput(1, List.of(changes.get(1)), List.of());
+        });
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        this.categoryListener.onMessages(List.of(moviesRecord, trailersRecord));
+
+        // then
+        final var capturer = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(1)).send(capturer.capture());
+
+        final var currentRecord = capturer.getValue();
+        Assertions.assertEquals(TOPIC + "-retry-0", currentRecord.topic());
+        Assertions.assertEquals(new String(trailersRecord.value(), StandardCharsets.UTF_8), currentRecord.value());
+    }
+
+    @Test
+    void givenStaleItem_whenProcessBatch_shouldPublishOnlyTheAppliedOnesToTheFeed() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var events = new ArrayList<CategoryChangeEvent>();
+        this.changeFeed.subscribe(new CategoryFeedFilter(null, false)).subscribe(events::add);
+
+        when(categoryGateway.changedCategoriesOfIds(any())).thenReturn(Map.of(movies.id(), movies, trailers.id(), trailers));
+        when(bulkCategoryUseCase.execute(any())).thenAnswer(t -> {
+            final List<CategoryChange> changes = t.getArgument(0);
+            return new BulkCategoryOutput(1, List.of(), List.of(changes.get(0)));
+        });
+
+        // when
+        this.categoryListener.onMessages(List.of(aRecord(0, movies.id(), Operation.UPDATE), aRecord(1, trailers.id(), Operation.UPDATE)));
+
+        // then
+        Assertions.assertEquals(List.of(CategoryChangeEvent.upsert(trailers)), events);
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    void givenUpstreamFailure_whenProcessBatch_shouldForwardUpsertsAndApplyTheRest() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        final var moviesRecord = aRecord(0, movies.id(), Operation.UPDATE);
+        final var trailersRecord = aRecord(1, trailers.id(), Operation.DELETE);
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any())).thenThrow(new RuntimeException("BOOM!"));
+        when(bulkCategoryUseCase.execute(any())).thenReturn(new BulkCategoryOutput(1, List.of(), List.of()));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        this.categoryListener.onMessages(List.of(moviesRecord, trailersRecord));
+
+        // then
+        verify(bulkCategoryUseCase, times(1)).execute(eq(List.of(CategoryChange.delete(trailers.id()))));
+
+        final var capturer = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(1)).send(capturer.capture());
+        Assertions.assertEquals(new String(moviesRecord.value(), StandardCharsets.UTF_8), capturer.getValue().value());
+    }
+
+    @Test
+    void givenUnknownCategory_whenProcessBatch_shouldSkipIt() {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any())).thenReturn(Optional.empty());
+        when(bulkCategoryUseCase.execute(any())).thenReturn(BulkCategoryOutput.empty());
+
+        // when
+        this.categoryListener.onMessages(List.of(aRecord(0, movies.id(), Operation.CREATE)));
+
+        // then
+        verify(bulkCategoryUseCase, times(1)).execute(eq(List.of()));
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    void givenRepeatedIds_whenProcessBatch_shouldKeepOnlyTheLatestOperationPerId() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+        final var expectedCollapsed = 3.0;
+
+        final var records = List.of(
+                aRecord(0, movies.id(), Operation.CREATE),
+                aRecord(1, trailers.id(), Operation.CREATE),
+                aRecord(2, movies.id(), Operation.UPDATE),
+                aRecord(3, trailers.id(), Operation.UPDATE),
+                aRecord(4, movies.id(), Operation.UPDATE),
+                aRecord(5, trailers.id(), Operation.DELETE)
+        );
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any())).thenReturn(Optional.of(movies));
+        when(bulkCategoryUseCase.execute(any())).thenReturn(new BulkCategoryOutput(2, List.of(), List.of()));
+
+        // when
+        this.categoryListener.onMessages(records);
+
+        // then
+        verify(categoryGateway, times(1)).changedCategoryOfId(eq(movies.id()), any());
+
+        final var expectedChanges = List.of(CategoryChange.save(movies), CategoryChange.delete(trailers.id()));
+        verify(bulkCategoryUseCase, times(1)).execute(eq(expectedChanges));
+
+        Assertions.assertEquals(expectedCollapsed, meterRegistry.counter("catalog.kafka.categories.collapsed").count());
+    }
+
+    private static ConsumerRecord<String, byte[]> aRecord(final long offset, final String anId, final Operation op) {
+        final var event = new CategoryEvent(anId);
+        final var source = new Source("admin_mysql", "admin_catalog", "categories");
+        final var message = Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(event, event, source, op)));
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, message.getBytes(StandardCharsets.UTF_8));
+    }
+}
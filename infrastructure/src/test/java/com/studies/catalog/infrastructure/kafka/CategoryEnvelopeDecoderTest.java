@@ -0,0 +1,95 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.infrastructure.category.models.CategoryEvent;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+import com.studies.catalog.infrastructure.kafka.connect.MessageValue;
+import com.studies.catalog.infrastructure.kafka.connect.Operation;
+import com.studies.catalog.infrastructure.kafka.connect.Source;
+import com.studies.catalog.infrastructure.kafka.connect.ValuePayload;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.studies.catalog.infrastructure.kafka.CategoryListener.CATEGORY_MESSAGE;
+
+class CategoryEnvelopeDecoderTest extends UnitTest {
+
+    @Test
+    void givenAnUpdateEnvelope_whenDecode_shouldMatchTheDatabindPath() {
+        // given
+        final var movies = CategoryEvent.from(Fixture.Categories.movies());
+        final var message = Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(
+                movies,
+                new CategoryEvent(movies.id()),
+                new Source("admin_mysql", "admin_catalog", "categories", 1_690_000_000_300L),
+                Operation.UPDATE
+        )));
+
+        final var expectedPayload = Json.readValue(message, CATEGORY_MESSAGE).payload();
+
+        // when
+        final var currentPayload = CategoryEnvelopeDecoder.decode(message.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        Assertions.assertEquals(expectedPayload.after(), currentPayload.after());
+        Assertions.assertEquals(expectedPayload.before().id(), currentPayload.before().id());
+        Assertions.assertEquals(expectedPayload.operation(), currentPayload.operation());
+        Assertions.assertEquals(expectedPayload.source().timestamp(), currentPayload.source().timestamp());
+    }
+
+    @Test
+    void givenADebeziumEnvelopeWithSchema_whenDecode_shouldSkipUnusedFields() {
+        // given
+        final var message = """
+                {
+                  "schema": {"type": "struct", "fields": [{"type": "string", "optional": false, "field": "id"}], "name": "envelope"},
+                  "payload": {
+                    "before": null,
+                    "after": {
+                      "id": "8f3c",
+                      "name": "Movies",
+                      "description": null,
+                      "is_active": 1,
+                      "created_at": 1690000000123456,
+                      "updated_at": 1690000000223456,
+                      "deleted_at": null
+                    },
+                    "source": {"version": "2.2.1.Final", "connector": "mysql", "ts_ms": 1690000000300, "db": "adm_videos", "table": "categories"},
+                    "op": "c",
+                    "ts_ms": 1690000000400,
+                    "transaction": null
+                  }
+                }
+                """;
+
+        // when
+        final var currentPayload = CategoryEnvelopeDecoder.decode(message.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        Assertions.assertNull(currentPayload.before());
+        Assertions.assertEquals(Operation.CREATE, currentPayload.operation());
+        Assertions.assertEquals(1_690_000_000_300L, currentPayload.source().timestamp());
+        Assertions.assertEquals(
+                new CategoryEvent("8f3c", "Movies", null, true, 1_690_000_000_123_456L, 1_690_000_000_223_456L, null),
+                currentPayload.after()
+        );
+    }
+
+    @Test
+    void givenAnEnvelopeWithoutPayload_whenDecode_shouldThrowError() {
+        // given
+        final var message = "{\"schema\": {}}";
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> CategoryEnvelopeDecoder.decode(message.getBytes(StandardCharsets.UTF_8))
+        );
+
+        // then
+        Assertions.assertEquals("Category envelope without payload", actualException.getMessage());
+    }
+}
@@ -1,9 +1,10 @@
 package com.studies.catalog.infrastructure.kafka;
 
 import com.studies.catalog.AbstractEmbeddedKafkaTest;
-import com.studies.catalog.application.category.delete.DeleteCategoryUseCase;
-import com.studies.catalog.application.category.save.SaveCategoryUseCase;
+import com.studies.catalog.application.category.bulk.BulkCategoryOutput;
+import com.studies.catalog.application.category.bulk.BulkCategoryUseCase;
 import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.category.CategoryChange;
 import com.studies.catalog.infrastructure.category.CategoryGateway;
 import com.studies.catalog.infrastructure.category.models.CategoryEvent;
 import com.studies.catalog.infrastructure.configuration.json.Json;
@@ -21,6 +22,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.kafka.listener.adapter.ConsumerRecordMetadata;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -32,10 +34,7 @@ import static org.mockito.Mockito.*;
 class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
 
     @MockBean
-    private DeleteCategoryUseCase deleteCategoryUseCase;
-
-    @MockBean
-    private SaveCategoryUseCase saveCategoryUseCase;
+    private BulkCategoryUseCase bulkCategoryUseCase;
 
     @MockBean
     private CategoryGateway categoryGateway;
@@ -95,8 +94,8 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
             if (latch.getCount() > 0) {
                 throw new RuntimeException("BOOM!");
             }
-            return null;
-        }).when(deleteCategoryUseCase).execute(any());
+            return new BulkCategoryOutput(1, List.of(), List.of());
+        }).when(bulkCategoryUseCase).execute(any());
 
         // when
         producer().send(new ProducerRecord<>(categoryTopic, message));
@@ -131,10 +130,10 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
 
         doAnswer(t -> {
             latch.countDown();
-            return movies;
-        }).when(saveCategoryUseCase).execute(any());
+            return new BulkCategoryOutput(1, List.of(), List.of());
+        }).when(bulkCategoryUseCase).execute(any());
 
-        doReturn(Optional.of(movies)).when(categoryGateway).categoryOfId(any());
+        doReturn(Optional.of(movies)).when(categoryGateway).changedCategoryOfId(any(), any());
 
         // when
         producer().send(new ProducerRecord<>(categoryTopic, message));
@@ -143,9 +142,9 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
         // then
-        verify(categoryGateway, times(1)).categoryOfId(eq(movies.id()));
+        verify(categoryGateway, times(1)).changedCategoryOfId(eq(movies.id()), any());
 
-        verify(saveCategoryUseCase, times(1)).execute(eq(movies));
+        verify(bulkCategoryUseCase, times(1)).execute(eq(List.of(CategoryChange.save(movies))));
     }
 
     @Test
@@ -161,10 +160,10 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
 
         doAnswer(t -> {
             latch.countDown();
-            return movies;
-        }).when(saveCategoryUseCase).execute(any());
+            return new BulkCategoryOutput(1, List.of(), List.of());
+        }).when(bulkCategoryUseCase).execute(any());
 
-        doReturn(Optional.of(movies)).when(categoryGateway).categoryOfId(any());
+        doReturn(Optional.of(movies)).when(categoryGateway).changedCategoryOfId(any(), any());
 
         // when
         producer().send(new ProducerRecord<>(categoryTopic, message));
@@ -173,9 +172,9 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
         // then
-        verify(categoryGateway, times(1)).categoryOfId(eq(movies.id()));
+        verify(categoryGateway, times(1)).changedCategoryOfId(eq(movies.id()), any());
 
-        verify(saveCategoryUseCase, times(1)).execute(eq(movies));
+        verify(bulkCategoryUseCase, times(1)).execute(eq(List.of(CategoryChange.save(movies))));
     }
 
     @Test
@@ -191,8 +190,8 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
 
         doAnswer(t -> {
             latch.countDown();
-            return null;
-        }).when(deleteCategoryUseCase).execute(any());
+            return new BulkCategoryOutput(1, List.of(), List.of());
+        }).when(bulkCategoryUseCase).execute(any());
 
         // when
         producer().send(new ProducerRecord<>(categoryTopic, message));
@@ -201,6 +200,6 @@ class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
         Assertions.assertTrue(latch.await(1, TimeUnit.MINUTES));
 
         // then
-        verify(deleteCategoryUseCase, times(1)).execute(eq(movies.id()));
+        verify(bulkCategoryUseCase, times(1)).execute(eq(List.of(CategoryChange.delete(movies.id()))));
     }
 }
\ No newline at end of file
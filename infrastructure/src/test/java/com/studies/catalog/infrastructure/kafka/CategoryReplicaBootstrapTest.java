@@ -0,0 +1,166 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.infrastructure.category.CategoryReplicaGateway;
+import com.studies.catalog.infrastructure.category.CategorySnapshot;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryConsumerProperties;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryReplicaProperties;
+import com.studies.catalog.infrastructure.configuration.properties.KafkaProperties;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryReplicaBootstrapTest extends UnitTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.categories";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    @Mock
+    private CategoryReplicaGateway replicaGateway;
+
+    @Mock
+    private CategoryReplicaListener replicaListener;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private MessageListenerContainer listenerContainer;
+
+    @Mock
+    private Consumer<byte[], byte[]> consumer;
+
+    @TempDir
+    private Path directory;
+
+    private CategoryReplicaProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new CategoryReplicaProperties();
+        this.properties.setCatchUpTimeout(Duration.ofSeconds(1));
+
+        when(consumer.partitionsFor(TOPIC)).thenReturn(List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        when(consumer.beginningOffsets(any())).thenReturn(Map.of(PARTITION, 10L));
+        when(consumer.endOffsets(any())).thenReturn(Map.of(PARTITION, 50L));
+        when(listenerRegistry.getListenerContainer(CategoryReplicaListener.ID)).thenReturn(listenerContainer);
+    }
+
+    @Test
+    void givenNoSnapshot_whenStart_shouldHydrateAndReplayFromTheCommittedPositions() throws InterruptedException {
+        // given
+        when(consumer.committed(any())).thenReturn(Map.of(PARTITION, new OffsetAndMetadata(42L)));
+        when(replicaListener.awaitPositions(any(), any())).thenReturn(true);
+
+        // when
+        bootstrap().start();
+
+        // then
+        verify(replicaGateway, times(1)).hydrate();
+        verify(replicaListener, times(1)).startFrom(eq(Map.of(PARTITION, 42L)));
+        verify(listenerContainer, times(1)).start();
+        verify(replicaListener, times(1)).awaitPositions(eq(Map.of(PARTITION, 50L)), any());
+        verify(replicaGateway, times(1)).markHydrated();
+    }
+
+    @Test
+    void givenASnapshotWithinTheTopic_whenStart_shouldRestoreItAndReplayFromItsPositions() throws InterruptedException {
+        // given
+        final var snapshot = aSnapshot(20L);
+        when(replicaListener.awaitPositions(any(), any())).thenReturn(true);
+
+        // when
+        bootstrap().start();
+
+        // then
+        verify(replicaGateway, times(1)).restore(any());
+        verify(replicaGateway, never()).hydrate();
+        verify(replicaListener, times(1)).startFrom(eq(Map.of(PARTITION, snapshot.positions().get(0).offset())));
+        verify(replicaGateway, times(1)).markHydrated();
+    }
+
+    @Test
+    void givenASnapshotBehindTheLogStart_whenStart_shouldHydrateFromTheIndexInstead() throws InterruptedException {
+        // given
+        aSnapshot(3L);
+        when(consumer.committed(any())).thenReturn(Map.of(PARTITION, new OffsetAndMetadata(42L)));
+        when(replicaListener.awaitPositions(any(), any())).thenReturn(true);
+
+        // when
+        bootstrap().start();
+
+        // then
+        verify(replicaGateway, never()).restore(any());
+        verify(replicaGateway, times(1)).hydrate();
+        verify(replicaListener, times(1)).startFrom(eq(Map.of(PARTITION, 42L)));
+    }
+
+    @Test
+    void givenAReplayThatDoesNotCatchUp_whenStart_shouldKeepReadingFromElasticsearch() throws InterruptedException {
+        // given
+        when(consumer.committed(any())).thenReturn(Map.of());
+        when(replicaListener.awaitPositions(any(), any())).thenReturn(false);
+
+        // when
+        bootstrap().start();
+
+        // then
+        verify(replicaListener, times(1)).startFrom(eq(Map.of(PARTITION, 10L)));
+        verify(listenerContainer, times(1)).start();
+        verify(replicaGateway, never()).markHydrated();
+    }
+
+    private CategorySnapshot aSnapshot(final long offset) {
+        final var path = this.directory.resolve("categories.snapshot");
+        this.properties.setSnapshotEnabled(true);
+        this.properties.setSnapshotPath(path.toString());
+
+        final var snapshot = new CategorySnapshot(
+                Instant.now(),
+                List.of(new CategorySnapshot.Position(TOPIC, 0, offset)),
+                List.of(CategoryChange.save(Fixture.Categories.movies(), 1L))
+        );
+        snapshot.write(path);
+        return snapshot;
+    }
+
+    private CategoryReplicaBootstrap bootstrap() {
+        final var consumerProperties = new CategoryConsumerProperties();
+        consumerProperties.setTopics(TOPIC);
+
+        return new CategoryReplicaBootstrap(
+                replicaGateway,
+                replicaListener,
+                listenerRegistry,
+                new KafkaProperties(),
+                consumerProperties,
+                properties
+        ) {
+            @Override
+            Consumer<byte[], byte[]> newConsumer() {
+                return consumer;
+            }
+        };
+    }
+}
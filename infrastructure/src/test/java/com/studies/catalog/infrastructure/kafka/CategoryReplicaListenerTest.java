@@ -0,0 +1,157 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.CategoryChange;
+import com.studies.catalog.infrastructure.category.CategoryGateway;
+import com.studies.catalog.infrastructure.category.CategoryReplicaGateway;
+import com.studies.catalog.infrastructure.category.models.CategoryEvent;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryConsumerProperties;
+import com.studies.catalog.infrastructure.kafka.connect.MessageValue;
+import com.studies.catalog.infrastructure.kafka.connect.Operation;
+import com.studies.catalog.infrastructure.kafka.connect.Source;
+import com.studies.catalog.infrastructure.kafka.connect.ValuePayload;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryReplicaListenerTest extends UnitTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.categories";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CategoryReplicaGateway replicaGateway;
+
+    @Mock
+    private Consumer<String, byte[]> consumer;
+
+    private CategoryReplicaListener replicaListener;
+
+    @BeforeEach
+    void setUp() {
+        final var resolver = new CategoryResolver(categoryGateway, new CategoryConsumerProperties());
+        this.replicaListener = new CategoryReplicaListener(resolver, replicaGateway);
+    }
+
+    @Test
+    void givenABatch_whenOnMessages_shouldApplyItToTheReplicaOnce() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any())).thenReturn(Optional.of(movies));
+        when(consumer.assignment()).thenReturn(Set.of(PARTITION));
+        when(consumer.position(PARTITION)).thenReturn(2L);
+
+        // when
+        this.replicaListener.onMessages(List.of(
+                aRecord(0, movies.id(), Operation.CREATE),
+                aRecord(1, trailers.id(), Operation.DELETE)
+        ), consumer);
+
+        // then
+        verify(replicaGateway, times(1)).apply(eq(List.of(
+                CategoryChange.save(movies),
+                CategoryChange.delete(trailers.id())
+        )));
+    }
+
+    @Test
+    void givenAResolverFailure_whenTheBatchIsRedelivered_shouldConvergeOnTheReplica() throws InterruptedException {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var records = List.of(aRecord(4, movies.id(), Operation.UPDATE));
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any()))
+                .thenThrow(new RuntimeException("BOOM!"))
+                .thenReturn(Optional.of(movies));
+        when(consumer.assignment()).thenReturn(Set.of(PARTITION));
+        when(consumer.position(PARTITION)).thenReturn(5L);
+
+        this.replicaListener.startFrom(Map.of(PARTITION, 4L));
+
+        // when
+        Assertions.assertThrows(RuntimeException.class, () -> this.replicaListener.onMessages(records, consumer));
+        final var caughtUpAfterFailure = this.replicaListener.awaitPositions(Map.of(PARTITION, 5L), Duration.ofMillis(200));
+
+        this.replicaListener.onMessages(records, consumer);
+
+        // then
+        Assertions.assertFalse(caughtUpAfterFailure);
+        Assertions.assertTrue(this.replicaListener.awaitPositions(Map.of(PARTITION, 5L), Duration.ofMillis(200)));
+        verify(replicaGateway, times(1)).apply(eq(List.of(CategoryChange.save(movies))));
+    }
+
+    @Test
+    void givenATopicEndingInAMarker_whenTheLastRecordIsApplied_shouldHaveCaughtUpWithTheConsumerPosition() throws InterruptedException {
+        // given
+        final var movies = Fixture.Categories.movies();
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any())).thenReturn(Optional.of(movies));
+        when(consumer.assignment()).thenReturn(Set.of(PARTITION));
+        // the commit marker after offset 7 is skipped by the consumer but never delivered as a record
+        when(consumer.position(PARTITION)).thenReturn(9L);
+
+        this.replicaListener.startFrom(Map.of(PARTITION, 7L));
+
+        // when
+        this.replicaListener.onMessages(List.of(aRecord(7, movies.id(), Operation.UPDATE)), consumer);
+
+        // then
+        Assertions.assertTrue(this.replicaListener.awaitPositions(Map.of(PARTITION, 9L), Duration.ofMillis(200)));
+        Assertions.assertEquals(9L, this.replicaListener.positions().get(0).offset());
+    }
+
+    @Test
+    void givenAnIdleContainer_whenOnIdleContainer_shouldTakeItsPositions() throws InterruptedException {
+        // given
+        this.replicaListener.startFrom(Map.of(PARTITION, 3L));
+
+        // when
+        this.replicaListener.onIdleContainer(Map.of(PARTITION, 12L), null);
+
+        // then
+        Assertions.assertTrue(this.replicaListener.awaitPositions(Map.of(PARTITION, 12L), Duration.ofMillis(200)));
+    }
+
+    @Test
+    void givenPositionsBehindTheEnd_whenAwaitPositions_shouldTimeOut() throws InterruptedException {
+        // given
+        this.replicaListener.startFrom(Map.of(PARTITION, 3L));
+
+        // when
+        final var actualOutput = this.replicaListener.awaitPositions(Map.of(PARTITION, 12L), Duration.ofMillis(200));
+
+        // then
+        Assertions.assertFalse(actualOutput);
+    }
+
+    private static ConsumerRecord<String, byte[]> aRecord(final long offset, final String anId, final Operation op) {
+        final var event = new CategoryEvent(anId);
+        final var source = new Source("admin_mysql", "admin_catalog", "categories");
+        final var message = Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(event, event, source, op)));
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, message.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,129 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.domain.Fixture;
+import com.studies.catalog.domain.UnitTest;
+import com.studies.catalog.domain.category.Category;
+import com.studies.catalog.infrastructure.category.CategoryGateway;
+import com.studies.catalog.infrastructure.category.models.CategoryEvent;
+import com.studies.catalog.infrastructure.configuration.json.Json;
+import com.studies.catalog.infrastructure.configuration.properties.CategoryConsumerProperties;
+import com.studies.catalog.infrastructure.kafka.connect.MessageValue;
+import com.studies.catalog.infrastructure.kafka.connect.Operation;
+import com.studies.catalog.infrastructure.kafka.connect.Source;
+import com.studies.catalog.infrastructure.kafka.connect.ValuePayload;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryResolverTest extends UnitTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private CategoryConsumerProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        this.properties = new CategoryConsumerProperties();
+    }
+
+    @Test
+    void givenTrustDisabled_whenResolve_shouldFetchFromUpstream() {
+        // given
+        final var movies = Fixture.Categories.movies();
+        final var trailers = Fixture.Categories.trailers();
+
+        when(categoryGateway.changedCategoriesOfIds(any())).thenReturn(Map.of(movies.id(), movies, trailers.id(), trailers));
+
+        // when
+        final var currentOutput = resolver().resolve(List.of(aMessage(movies, null), aMessage(trailers, null)));
+
+        // then
+        Assertions.assertEquals(Map.of(movies.id(), movies, trailers.id(), trailers), currentOutput);
+    }
+
+    @Test
+    void givenTrustEnabledAndCompleteImage_whenResolve_shouldNotCallUpstream() {
+        // given
+        this.properties.setTrustPayload(true);
+
+        final var movies = Fixture.Categories.movies();
+
+        // when
+        final var currentOutput = resolver().resolve(List.of(aMessage(movies, movies.updatedAt())));
+
+        // then
+        final var currentCategory = currentOutput.get(movies.id());
+        Assertions.assertEquals(movies.id(), currentCategory.id());
+        Assertions.assertEquals(movies.name(), currentCategory.name());
+        Assertions.assertEquals(movies.description(), currentCategory.description());
+        Assertions.assertEquals(movies.active(), currentCategory.active());
+        Assertions.assertEquals(movies.createdAt(), currentCategory.createdAt());
+        Assertions.assertEquals(movies.updatedAt(), currentCategory.updatedAt());
+
+        verify(categoryGateway, never()).changedCategoryOfId(any(), any());
+        verify(categoryGateway, never()).changedCategoriesOfIds(any());
+    }
+
+    @Test
+    void givenTrustEnabledAndIncompleteImage_whenResolve_shouldFallbackToUpstream() {
+        // given
+        this.properties.setTrustPayload(true);
+
+        final var movies = Fixture.Categories.movies();
+        final var message = aMessage(new CategoryEvent(movies.id()), movies.updatedAt());
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any())).thenReturn(Optional.of(movies));
+
+        // when
+        final var currentOutput = resolver().resolve(List.of(message));
+
+        // then
+        Assertions.assertEquals(movies, currentOutput.get(movies.id()));
+    }
+
+    @Test
+    void givenTrustEnabledAndUnversionedImage_whenResolve_shouldFallbackToUpstream() {
+        // given
+        this.properties.setTrustPayload(true);
+
+        final var movies = Fixture.Categories.movies();
+
+        when(categoryGateway.changedCategoryOfId(eq(movies.id()), any())).thenReturn(Optional.of(movies));
+
+        // when
+        final var currentOutput = resolver().resolve(List.of(aMessage(movies, null)));
+
+        // then
+        Assertions.assertEquals(movies, currentOutput.get(movies.id()));
+        verify(categoryGateway, times(1)).changedCategoryOfId(eq(movies.id()), any());
+    }
+
+    private CategoryResolver resolver() {
+        return new CategoryResolver(categoryGateway, properties);
+    }
+
+    private static CategoryMessage aMessage(final Category aCategory, final Instant sourceTime) {
+        return aMessage(CategoryEvent.from(aCategory), sourceTime);
+    }
+
+    private static CategoryMessage aMessage(final CategoryEvent event, final Instant sourceTime) {
+        final var source = new Source("admin_mysql", "admin_catalog", "categories", sourceTime == null ? null : sourceTime.toEpochMilli());
+        final var message = Json.writeValueAsString(new MessageValue<>(new ValuePayload<>(event, null, source, Operation.UPDATE)));
+        return CategoryMessage.from(new ConsumerRecord<>("categories", 0, 0, null, message.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.studies.catalog.infrastructure.kafka;
+
+import com.studies.catalog.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class KeyOrderedExecutorTest extends UnitTest {
+
+    @Test
+    void givenTasksForSameKey_whenSubmitted_shouldRunThemInOrder() {
+        // given
+        final var expectedOrder = List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        final var currentOrder = Collections.synchronizedList(new ArrayList<Integer>());
+
+        try (final var executor = new KeyOrderedExecutor(4, "test-worker-")) {
+            // when
+            final var futures = expectedOrder.stream()
+                    .map(i -> executor.submit("movies", () -> currentOrder.add(i)))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        }
+
+        // then
+        Assertions.assertEquals(expectedOrder, currentOrder);
+    }
+
+    @Test
+    void givenTasksForDifferentKeys_whenSubmitted_shouldRunThemConcurrently() throws Exception {
+        // given
+        final var latch = new CountDownLatch(2);
+
+        try (final var executor = new KeyOrderedExecutor(2, "test-worker-")) {
+            // "a" and "b" hash to different lanes, each task only completes once the other one started
+            final var first = executor.submit("a", () -> await(latch));
+            final var second = executor.submit("b", () -> await(latch));
+
+            // when/then
+            Assertions.assertTrue(first.get(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(second.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void givenSingleLane_whenTaskFails_shouldReturnFailedFuture() {
+        // given
+        try (final var executor = new KeyOrderedExecutor(1, "test-worker-")) {
+            // when
+            final var currentFuture = executor.submit("movies", () -> {
+                throw new IllegalStateException("BOOM!");
+            });
+
+            // then
+            Assertions.assertTrue(currentFuture.isCompletedExceptionally());
+        }
+    }
+
+    private static boolean await(final CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}